@@ -0,0 +1,25 @@
+package com.usermanagement.usermanagementbe.reactive;
+
+import com.usermanagement.usermanagementbe.security.JwtTokenProvider;
+import com.usermanagement.usermanagementbe.security.SigningKeyRing;
+import com.usermanagement.usermanagementbe.security.TokenRevocationIndex;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * WebFlux + R2DBC variant of the user API. It shares the database, the DTOs
+ * and the token machinery (signing key ring, revocation index) with the
+ * servlet application, so tokens issued by either are accepted by both.
+ */
+@SpringBootApplication
+@EnableScheduling
+@Import({JwtTokenProvider.class, SigningKeyRing.class, TokenRevocationIndex.class})
+public class ReactiveUserManagementApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveUserManagementApplication.class, args);
+    }
+
+}
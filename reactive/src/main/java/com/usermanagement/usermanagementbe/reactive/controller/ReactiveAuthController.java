@@ -0,0 +1,114 @@
+package com.usermanagement.usermanagementbe.reactive.controller;
+
+import com.usermanagement.usermanagementbe.dto.AuthResponse;
+import com.usermanagement.usermanagementbe.dto.LoginRequest;
+import com.usermanagement.usermanagementbe.dto.TokenRefreshRequest;
+import com.usermanagement.usermanagementbe.dto.UserRequest;
+import com.usermanagement.usermanagementbe.dto.UserResponse;
+import com.usermanagement.usermanagementbe.exception.TokenRefreshException;
+import com.usermanagement.usermanagementbe.reactive.repository.ReactiveUserRepository;
+import com.usermanagement.usermanagementbe.reactive.service.ReactiveRefreshTokenService;
+import com.usermanagement.usermanagementbe.reactive.service.ReactiveUserService;
+import com.usermanagement.usermanagementbe.reactive.tenant.ReactiveTenant;
+import com.usermanagement.usermanagementbe.security.JwtTokenProvider;
+import com.usermanagement.usermanagementbe.security.TokenRevocationIndex;
+import com.usermanagement.usermanagementbe.security.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@RestController
+@RequestMapping("/api/auth")
+public class ReactiveAuthController {
+
+    @Autowired
+    private ReactiveAuthenticationManager authenticationManager;
+
+    @Autowired
+    private ReactiveUserRepository userRepository;
+
+    @Autowired
+    private ReactiveUserService userService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private ReactiveRefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationIndex revocationIndex;
+
+    @PostMapping("/login")
+    public Mono<AuthResponse> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
+        return authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
+                        loginRequest.getUsername(), loginRequest.getPassword()))
+                .zipWith(ReactiveTenant.current())
+                .flatMap(authenticated -> {
+                    UserDetailsImpl userDetails = (UserDetailsImpl) authenticated.getT1().getPrincipal();
+                    String tenantId = authenticated.getT2();
+                    String jwt = ReactiveTenant.callAs(tenantId, () -> tokenProvider.generateToken(userDetails.getUsername()));
+                    return refreshTokenService.issue(userDetails.getId(), tenantId)
+                            .map(refreshToken -> new AuthResponse(jwt,
+                                    refreshToken,
+                                    userDetails.getId(),
+                                    userDetails.getUsername(),
+                                    userDetails.getEmail(),
+                                    userDetails.getAuthorities().iterator().next().getAuthority()));
+                });
+    }
+
+    @PostMapping("/refresh")
+    public Mono<AuthResponse> refreshToken(@Valid @RequestBody TokenRefreshRequest refreshRequest) {
+        return refreshTokenService.consume(refreshRequest.getRefreshToken())
+                .flatMap(consumed -> userRepository.findById(consumed.getTenantId(), consumed.getUserId()))
+                .switchIfEmpty(Mono.error(() -> new TokenRefreshException("Refresh token is invalid or expired")))
+                .flatMap(user -> {
+                    String jwt = ReactiveTenant.callAs(user.tenantId(), () -> tokenProvider.generateToken(user.username()));
+                    return refreshTokenService.issue(user.id(), user.tenantId())
+                            .map(refreshToken -> new AuthResponse(jwt,
+                                    refreshToken,
+                                    user.id(),
+                                    user.username(),
+                                    user.email(),
+                                    user.role()));
+                });
+    }
+
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<Void>> logout(@RequestHeader("Authorization") String authorization,
+                                             @RequestBody(required = false) TokenRefreshRequest refreshRequest) {
+        Claims claims = tokenProvider.getClaimsFromJWT(authorization.substring(7));
+        // The revocation index writes through synchronously
+        Mono<Void> revokeAccessToken = Mono.<Void>fromRunnable(() ->
+                        revocationIndex.revoke(claims.getId(), claims.getExpiration().toInstant()))
+                .subscribeOn(Schedulers.boundedElastic());
+        Mono<Void> revokeRefreshToken = refreshRequest != null && refreshRequest.getRefreshToken() != null
+                ? refreshTokenService.revoke(refreshRequest.getRefreshToken())
+                : Mono.empty();
+        return revokeAccessToken.then(revokeRefreshToken).thenReturn(ResponseEntity.noContent().build());
+    }
+
+    @PostMapping("/register")
+    public Mono<ResponseEntity<UserResponse>> registerUser(@Valid @RequestBody UserRequest signUpRequest) {
+        return userService.createUser(signUpRequest)
+                .map(userResponse -> new ResponseEntity<>(userResponse, HttpStatus.CREATED));
+    }
+
+    @GetMapping("/me")
+    public UserResponse getCurrentUser(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return new UserResponse(
+                userDetails.getId(),
+                userDetails.getUsername(),
+                userDetails.getEmail(),
+                userDetails.getAuthorities().iterator().next().getAuthority());
+    }
+}
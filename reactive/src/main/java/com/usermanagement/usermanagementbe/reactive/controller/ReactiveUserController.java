@@ -0,0 +1,46 @@
+package com.usermanagement.usermanagementbe.reactive.controller;
+
+import com.usermanagement.usermanagementbe.dto.UserRequest;
+import com.usermanagement.usermanagementbe.dto.UserResponse;
+import com.usermanagement.usermanagementbe.reactive.service.ReactiveUserService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/users")
+public class ReactiveUserController {
+
+    @Autowired
+    private ReactiveUserService userService;
+
+    @PostMapping
+    public Mono<ResponseEntity<UserResponse>> createUser(@Valid @RequestBody UserRequest userRequest) {
+        return userService.createUser(userRequest)
+                .map(response -> new ResponseEntity<>(response, HttpStatus.CREATED));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<UserResponse> getUserById(@PathVariable Long id) {
+        return userService.getUserById(id);
+    }
+
+    @GetMapping
+    public Flux<UserResponse> getAllUsers() {
+        return userService.getAllUsers();
+    }
+
+    @PutMapping("/{id}")
+    public Mono<UserResponse> updateUser(@PathVariable Long id, @Valid @RequestBody UserRequest userRequest) {
+        return userService.updateUser(id, userRequest);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteUser(@PathVariable Long id) {
+        return userService.deleteUser(id).thenReturn(ResponseEntity.noContent().build());
+    }
+}
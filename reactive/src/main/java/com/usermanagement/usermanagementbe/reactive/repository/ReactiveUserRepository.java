@@ -0,0 +1,144 @@
+package com.usermanagement.usermanagementbe.reactive.repository;
+
+import com.usermanagement.usermanagementbe.entity.User;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * The {@code users} table as mapped by the servlet application. Every query
+ * is scoped by tenant explicitly and, like the entity, skips soft-deleted
+ * rows; those are purged by the servlet application.
+ */
+@Repository
+public class ReactiveUserRepository {
+
+    private static final String COLUMNS = "id, tenant_id, username, email, password, role";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    public Mono<UserRow> findById(String tenantId, Long id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM users WHERE tenant_id = :tenantId AND id = :id "
+                        + "AND deleted_at IS NULL")
+                .bind("tenantId", tenantId)
+                .bind("id", id)
+                .map(ReactiveUserRepository::toRow)
+                .one();
+    }
+
+    public Mono<UserRow> findByUsername(String tenantId, String username) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM users WHERE tenant_id = :tenantId AND username = :username "
+                        + "AND deleted_at IS NULL")
+                .bind("tenantId", tenantId)
+                .bind("username", username)
+                .map(ReactiveUserRepository::toRow)
+                .one();
+    }
+
+    public Flux<UserRow> findAll(String tenantId) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM users WHERE tenant_id = :tenantId AND deleted_at IS NULL "
+                        + "ORDER BY id")
+                .bind("tenantId", tenantId)
+                .map(ReactiveUserRepository::toRow)
+                .all();
+    }
+
+    public Mono<Boolean> existsByUsername(String tenantId, String username) {
+        return exists("username", tenantId, username);
+    }
+
+    public Mono<Boolean> existsByEmail(String tenantId, String email) {
+        return exists("email", tenantId, email);
+    }
+
+    public Mono<UserRow> insert(UserRow user) {
+        return deleteTombstones(user).then(nextId()
+                .map(user::withId)
+                .flatMap(row -> databaseClient.sql("INSERT INTO users (" + COLUMNS + ") "
+                                + "VALUES (:id, :tenantId, :username, :email, :password, :role)")
+                        .bind("id", row.id())
+                        .bind("tenantId", row.tenantId())
+                        .bind("username", row.username())
+                        .bind("email", row.email())
+                        .bind("password", row.password())
+                        .bind("role", row.role())
+                        .then()
+                        .thenReturn(row)));
+    }
+
+    public Mono<UserRow> update(UserRow user) {
+        return deleteTombstones(user).then(databaseClient.sql("UPDATE users SET username = :username, email = :email, "
+                        + "password = :password, role = :role, version = version + 1 "
+                        + "WHERE tenant_id = :tenantId AND id = :id AND deleted_at IS NULL")
+                .bind("username", user.username())
+                .bind("email", user.email())
+                .bind("password", user.password())
+                .bind("role", user.role())
+                .bind("tenantId", user.tenantId())
+                .bind("id", user.id())
+                .then()
+                .thenReturn(user));
+    }
+
+    public Mono<Long> deleteById(String tenantId, Long id) {
+        return databaseClient.sql("UPDATE users SET deleted_at = :now, version = version + 1 "
+                        + "WHERE tenant_id = :tenantId AND id = :id AND deleted_at IS NULL")
+                .bind("now", Instant.now())
+                .bind("tenantId", tenantId)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * users_seq is a pooled sequence (see User): the value handed out by
+     * nextval is the top of a block of ID_ALLOCATION_SIZE ids reserved for us.
+     * Only the first id of the block is used, which keeps this stateless. A
+     * fresh sequence starts at 1, which tops no full block; like Hibernate's
+     * pooled optimizer, fetch again and use the block below the second value.
+     */
+    private Mono<Long> nextId() {
+        return nextval()
+                .flatMap(hi -> hi < User.ID_ALLOCATION_SIZE ? nextval() : Mono.just(hi))
+                .map(hi -> hi - User.ID_ALLOCATION_SIZE + 1);
+    }
+
+    private Mono<Long> nextval() {
+        return databaseClient.sql("SELECT nextval('users_seq')")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    // Tombstones keep their names in the unique constraints until purged
+    private Mono<Long> deleteTombstones(UserRow user) {
+        return databaseClient.sql("DELETE FROM users WHERE tenant_id = :tenantId AND deleted_at IS NOT NULL "
+                        + "AND (username = :username OR email = :email)")
+                .bind("tenantId", user.tenantId())
+                .bind("username", user.username())
+                .bind("email", user.email())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private Mono<Boolean> exists(String column, String tenantId, String value) {
+        return databaseClient.sql("SELECT COUNT(*) FROM users WHERE tenant_id = :tenantId AND " + column + " = :value "
+                        + "AND deleted_at IS NULL")
+                .bind("tenantId", tenantId)
+                .bind("value", value)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(count -> count > 0);
+    }
+
+    private static UserRow toRow(Readable row) {
+        return new UserRow(row.get("id", Long.class), row.get("tenant_id", String.class),
+                row.get("username", String.class), row.get("email", String.class),
+                row.get("password", String.class), row.get("role", String.class));
+    }
+}
@@ -0,0 +1,14 @@
+package com.usermanagement.usermanagementbe.reactive.repository;
+
+import com.usermanagement.usermanagementbe.dto.UserResponse;
+
+public record UserRow(Long id, String tenantId, String username, String email, String password, String role) {
+
+    public UserRow withId(Long newId) {
+        return new UserRow(newId, tenantId, username, email, password, role);
+    }
+
+    public UserResponse toResponse() {
+        return new UserResponse(id, username, email, role);
+    }
+}
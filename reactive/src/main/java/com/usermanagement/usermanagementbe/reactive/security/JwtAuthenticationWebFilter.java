@@ -0,0 +1,75 @@
+package com.usermanagement.usermanagementbe.reactive.security;
+
+import com.usermanagement.usermanagementbe.reactive.tenant.ReactiveTenant;
+import com.usermanagement.usermanagementbe.security.JwtAuthenticationFilter;
+import com.usermanagement.usermanagementbe.security.JwtTokenProvider;
+import com.usermanagement.usermanagementbe.security.TokenRevocationIndex;
+import com.usermanagement.usermanagementbe.tenant.TenantContext;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Reactive counterpart of {@link JwtAuthenticationFilter}. Verification is pure
+ * CPU against the in-memory key ring and revocation index, so it runs inline
+ * on the event loop. Only the user lookup touches the database.
+ */
+@Component
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private TokenRevocationIndex revocationIndex;
+
+    @Autowired
+    private ReactiveUserDetailsService userDetailsService;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String tenantHeader = exchange.getRequest().getHeaders().getFirst(JwtAuthenticationFilter.TENANT_HEADER);
+        if (tenantHeader != null && !TenantContext.isValid(tenantHeader)) {
+            exchange.getResponse().setStatusCode(HttpStatus.BAD_REQUEST);
+            return exchange.getResponse().setComplete();
+        }
+
+        String jwt = getJwtFromRequest(exchange);
+        Claims claims = StringUtils.hasText(jwt) ? tokenProvider.parseAndValidate(jwt) : null;
+        if (claims == null || revocationIndex.isRevoked(claims.getId())) {
+            // Anonymous endpoints (login, register, refresh) pick the tenant explicitly
+            String tenantId = tenantHeader != null ? tenantHeader : TenantContext.DEFAULT_TENANT;
+            return chain.filter(exchange).contextWrite(ReactiveTenant.with(tenantId));
+        }
+
+        // The signed claim always wins over the header
+        String claimedTenant = claims.get(JwtTokenProvider.TENANT_CLAIM, String.class);
+        String tenantId = claimedTenant != null ? claimedTenant : TenantContext.DEFAULT_TENANT;
+        return userDetailsService.findByUsername(claims.getSubject())
+                .map(user -> ReactiveSecurityContextHolder.withAuthentication(
+                        new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities())))
+                // A deleted user's token just leaves the request anonymous
+                .defaultIfEmpty(Context.empty())
+                .flatMap(securityContext -> chain.filter(exchange).contextWrite(securityContext))
+                .contextWrite(ReactiveTenant.with(tenantId));
+    }
+
+    private String getJwtFromRequest(ServerWebExchange exchange) {
+        String bearerToken = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+}
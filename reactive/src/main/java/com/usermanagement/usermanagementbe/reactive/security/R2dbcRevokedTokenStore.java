@@ -0,0 +1,51 @@
+package com.usermanagement.usermanagementbe.reactive.security;
+
+import com.usermanagement.usermanagementbe.entity.RevokedToken;
+import com.usermanagement.usermanagementbe.security.RevokedTokenStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * {@link RevokedTokenStore} over R2DBC. The revocation index only calls it
+ * from its schedule and from logout, which runs on a blocking-capable
+ * scheduler, so the calls block.
+ */
+@Component
+public class R2dbcRevokedTokenStore implements RevokedTokenStore {
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Override
+    public void save(RevokedToken token) {
+        databaseClient.sql("INSERT INTO revoked_access_tokens (jti, expires_at) VALUES (:jti, :expiresAt)")
+                .bind("jti", token.getJti())
+                .bind("expiresAt", token.getExpiresAt())
+                .then()
+                .block();
+    }
+
+    @Override
+    public List<RevokedToken> findUnexpired(Instant now) {
+        return databaseClient.sql("SELECT jti, expires_at FROM revoked_access_tokens WHERE expires_at > :now")
+                .bind("now", now)
+                .map(row -> new RevokedToken(row.get("jti", String.class), row.get("expires_at", Instant.class)))
+                .all()
+                .collectList()
+                .block();
+    }
+
+    @Override
+    public int deleteExpired(Instant now) {
+        Long deleted = databaseClient.sql("DELETE FROM revoked_access_tokens WHERE expires_at < :now")
+                .bind("now", now)
+                .fetch()
+                .rowsUpdated()
+                .block();
+        return deleted != null ? deleted.intValue() : 0;
+    }
+}
@@ -0,0 +1,92 @@
+package com.usermanagement.usermanagementbe.reactive.security;
+
+import com.usermanagement.usermanagementbe.entity.SigningKey;
+import com.usermanagement.usermanagementbe.security.SigningKeyStore;
+import io.r2dbc.spi.Readable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * {@link SigningKeyStore} over R2DBC. The key ring calls it synchronously, which
+ * is fine from its scheduled maintenance. It is not fine from the event loop,
+ * where the ring lands when a token carries an unknown kid. There the last
+ * result is served and a refresh runs in the background. The ring's next
+ * reload (at most a second later, or the scheduled sync) then sees the new key.
+ */
+@Component
+public class R2dbcSigningKeyStore implements SigningKeyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(R2dbcSigningKeyStore.class);
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ReactiveTransactionManager transactionManager;
+
+    private volatile List<SigningKey> lastResult = List.of();
+
+    @Override
+    public List<SigningKey> findUsableSince(Instant since) {
+        Mono<List<SigningKey>> query = databaseClient.sql("SELECT kid, algorithm, public_key, private_key, created_at, "
+                        + "retired_at FROM jwt_signing_keys WHERE retired_at IS NULL OR retired_at > :since "
+                        + "ORDER BY created_at DESC")
+                .bind("since", since)
+                .map(R2dbcSigningKeyStore::toKey)
+                .all()
+                .collectList()
+                .doOnNext(rows -> lastResult = rows);
+        if (Schedulers.isInNonBlockingThread()) {
+            query.subscribe(rows -> { }, ex -> log.warn("Could not refresh signing keys: {}", ex.getMessage()));
+            return lastResult;
+        }
+        return query.block();
+    }
+
+    @Override
+    public void saveAndRetireOthers(SigningKey key, Instant now) {
+        databaseClient.sql("INSERT INTO jwt_signing_keys (kid, algorithm, public_key, private_key, created_at) "
+                        + "VALUES (:kid, :algorithm, :publicKey, :privateKey, :createdAt)")
+                .bind("kid", key.getKid())
+                .bind("algorithm", key.getAlgorithm())
+                .bind("publicKey", key.getPublicKey())
+                .bind("privateKey", key.getPrivateKey())
+                .bind("createdAt", key.getCreatedAt())
+                .then()
+                .then(databaseClient.sql("UPDATE jwt_signing_keys SET retired_at = :now "
+                                + "WHERE retired_at IS NULL AND kid <> :kid")
+                        .bind("now", now)
+                        .bind("kid", key.getKid())
+                        .then())
+                .as(TransactionalOperator.create(transactionManager)::transactional)
+                .block();
+    }
+
+    @Override
+    public int deleteRetiredBefore(Instant before) {
+        Long deleted = databaseClient.sql("DELETE FROM jwt_signing_keys WHERE retired_at < :before")
+                .bind("before", before)
+                .fetch()
+                .rowsUpdated()
+                .block();
+        return deleted != null ? deleted.intValue() : 0;
+    }
+
+    private static SigningKey toKey(Readable row) {
+        SigningKey key = new SigningKey(row.get("kid", String.class), row.get("algorithm", String.class),
+                row.get("public_key", String.class), row.get("private_key", String.class),
+                row.get("created_at", Instant.class));
+        key.setRetiredAt(row.get("retired_at", Instant.class));
+        return key;
+    }
+}
@@ -0,0 +1,114 @@
+package com.usermanagement.usermanagementbe.reactive.security;
+
+import com.usermanagement.usermanagementbe.reactive.repository.ReactiveUserRepository;
+import com.usermanagement.usermanagementbe.reactive.tenant.ReactiveTenant;
+import com.usermanagement.usermanagementbe.security.UserDetailsImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Arrays;
+
+@Configuration
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+
+    /**
+     * BCrypt is deliberately slow and CPU bound, so it must stay off the event
+     * loop. Its pool is capped at one thread per core, with a bounded queue, so a
+     * login spike queues up (and eventually gets rejected) instead of starving
+     * the rest of the service.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler passwordHashingScheduler(
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue-capacity:1000}") int queueCapacity) {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return Schedulers.newBoundedElastic(size, queueCapacity, "password-hashing");
+    }
+
+    @Bean
+    public ReactiveUserDetailsService userDetailsService(ReactiveUserRepository userRepository) {
+        return username -> ReactiveTenant.current()
+                .flatMap(tenantId -> userRepository.findByUsername(tenantId, username))
+                .map(user -> new UserDetailsImpl(user.id(), user.username(), user.email(), user.password(),
+                        UserDetailsImpl.authoritiesFor(user.role())));
+    }
+
+    @Bean
+    public ReactiveAuthenticationManager authenticationManager(ReactiveUserDetailsService userDetailsService,
+                                                               PasswordEncoder passwordEncoder,
+                                                               Scheduler passwordHashingScheduler) {
+        UserDetailsRepositoryReactiveAuthenticationManager manager =
+                new UserDetailsRepositoryReactiveAuthenticationManager(userDetailsService);
+        manager.setPasswordEncoder(passwordEncoder);
+        manager.setScheduler(passwordHashingScheduler);
+        return manager;
+    }
+
+    @Bean
+    public CorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOriginPatterns(Arrays.asList(
+                "http://localhost:3000",
+                "http://127.0.0.1:3000",
+                "https://usermanagement.zanitaproject.site"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setAllowCredentials(true);
+        configuration.setMaxAge(3600L);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", configuration);
+        return source;
+    }
+
+    // Same rules as the servlet SecurityConfig
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                         JwtAuthenticationWebFilter jwtAuthenticationWebFilter) {
+        return http.cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .authorizeExchange(auth -> auth
+                        .pathMatchers("/api/auth/login", "/api/auth/register", "/api/auth/refresh").permitAll()
+                        .pathMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll()
+                        .pathMatchers(HttpMethod.GET, "/api/auth/me").authenticated()
+                        .pathMatchers(HttpMethod.POST, "/api/users").hasAuthority("ADMIN")
+                        .pathMatchers(HttpMethod.PUT, "/api/users/**").hasAuthority("ADMIN")
+                        .pathMatchers(HttpMethod.DELETE, "/api/users/**").hasAuthority("ADMIN")
+                        .pathMatchers(HttpMethod.GET, "/api/users").hasAuthority("ADMIN")
+                        .pathMatchers(HttpMethod.GET, "/api/users/*").hasAnyAuthority("USER", "ADMIN")
+                        .anyExchange().authenticated())
+                .addFilterAt(jwtAuthenticationWebFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.usermanagement.usermanagementbe.reactive.service;
+
+import com.usermanagement.usermanagementbe.entity.RefreshToken;
+import com.usermanagement.usermanagementbe.exception.TokenRefreshException;
+import com.usermanagement.usermanagementbe.service.RefreshTokenService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Same rules as {@link RefreshTokenService}, on the same table: tokens are
+ * stored hashed, single use, and replaying a consumed one revokes all of
+ * the user's tokens.
+ */
+@Service
+public class ReactiveRefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final String INVALID = "Refresh token is invalid or expired";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Value("${jwt.refresh-expiration}")
+    private long refreshExpirationMs;
+
+    public Mono<String> issue(Long userId, String tenantId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        return databaseClient.sql("INSERT INTO refresh_tokens (token_hash, user_id, tenant_id, expires_at) "
+                        + "VALUES (:tokenHash, :userId, :tenantId, :expiresAt)")
+                .bind("tokenHash", RefreshTokenService.hash(rawToken))
+                .bind("userId", userId)
+                .bind("tenantId", tenantId)
+                .bind("expiresAt", Instant.now().plusMillis(refreshExpirationMs))
+                .then()
+                .thenReturn(rawToken);
+    }
+
+    /**
+     * Consumes a refresh token and returns it so the caller can re-issue
+     * tokens for its user and tenant. The conditional update makes
+     * concurrent use of the same token succeed at most once.
+     */
+    public Mono<RefreshToken> consume(String rawToken) {
+        Instant now = Instant.now();
+        String tokenHash = RefreshTokenService.hash(rawToken);
+        return databaseClient.sql("SELECT user_id, tenant_id, expires_at, revoked_at FROM refresh_tokens "
+                        + "WHERE token_hash = :tokenHash")
+                .bind("tokenHash", tokenHash)
+                .map(row -> {
+                    RefreshToken token = new RefreshToken(tokenHash, row.get("user_id", Long.class),
+                            row.get("tenant_id", String.class), row.get("expires_at", Instant.class));
+                    token.setRevokedAt(row.get("revoked_at", Instant.class));
+                    return token;
+                })
+                .one()
+                .switchIfEmpty(Mono.error(() -> new TokenRefreshException(INVALID)))
+                .flatMap(token -> {
+                    if (token.getRevokedAt() != null) {
+                        return revokeAllForUser(token.getUserId())
+                                .then(Mono.error(new TokenRefreshException(INVALID)));
+                    }
+                    if (!token.isActive(now)) {
+                        return Mono.error(new TokenRefreshException(INVALID));
+                    }
+                    return markRevoked(tokenHash, now).flatMap(updated -> updated > 0
+                            ? Mono.just(token)
+                            : Mono.error(new TokenRefreshException(INVALID)));
+                });
+    }
+
+    public Mono<Void> revoke(String rawToken) {
+        return markRevoked(RefreshTokenService.hash(rawToken), Instant.now()).then();
+    }
+
+    public Mono<Long> revokeAllForUser(Long userId) {
+        return databaseClient.sql("UPDATE refresh_tokens SET revoked_at = :now "
+                        + "WHERE user_id = :userId AND revoked_at IS NULL")
+                .bind("now", Instant.now())
+                .bind("userId", userId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        databaseClient.sql("DELETE FROM refresh_tokens WHERE expires_at < :now")
+                .bind("now", Instant.now())
+                .then()
+                .block();
+    }
+
+    private Mono<Long> markRevoked(String tokenHash, Instant now) {
+        return databaseClient.sql("UPDATE refresh_tokens SET revoked_at = :now "
+                        + "WHERE token_hash = :tokenHash AND revoked_at IS NULL")
+                .bind("now", now)
+                .bind("tokenHash", tokenHash)
+                .fetch()
+                .rowsUpdated();
+    }
+}
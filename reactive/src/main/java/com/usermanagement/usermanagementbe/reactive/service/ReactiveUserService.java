@@ -0,0 +1,106 @@
+package com.usermanagement.usermanagementbe.reactive.service;
+
+import com.usermanagement.usermanagementbe.dto.UserRequest;
+import com.usermanagement.usermanagementbe.dto.UserResponse;
+import com.usermanagement.usermanagementbe.exception.BadRequestException;
+import com.usermanagement.usermanagementbe.exception.ResourceNotFoundException;
+import com.usermanagement.usermanagementbe.reactive.repository.ReactiveUserRepository;
+import com.usermanagement.usermanagementbe.reactive.repository.UserRow;
+import com.usermanagement.usermanagementbe.reactive.tenant.ReactiveTenant;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Reactive counterpart of the servlet UserService and the checks in its
+ * controllers. Lifecycle events are not published here; the refresh token
+ * revocation they trigger on delete and role change is done inline.
+ */
+@Service
+public class ReactiveUserService {
+
+    @Autowired
+    private ReactiveUserRepository userRepository;
+
+    @Autowired
+    private ReactiveRefreshTokenService refreshTokenService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    @Qualifier("passwordHashingScheduler")
+    private Scheduler passwordHashingScheduler;
+
+    public Mono<UserResponse> createUser(UserRequest userRequest) {
+        if (userRequest.getPassword() == null || userRequest.getPassword().trim().isEmpty()) {
+            return Mono.error(new BadRequestException("Password is required"));
+        }
+        return ReactiveTenant.current().flatMap(tenantId -> userRepository.existsByUsername(tenantId, userRequest.getUsername())
+                .flatMap(taken -> taken
+                        ? Mono.error(new BadRequestException("Username is already taken"))
+                        : userRepository.existsByEmail(tenantId, userRequest.getEmail()))
+                .flatMap(taken -> taken
+                        ? Mono.error(new BadRequestException("Email is already in use"))
+                        : encode(userRequest.getPassword()))
+                .flatMap(hash -> userRepository.insert(new UserRow(null, tenantId, userRequest.getUsername(),
+                        userRequest.getEmail(), hash, userRequest.getRole())))
+                .map(UserRow::toResponse));
+    }
+
+    public Mono<UserResponse> getUserById(Long id) {
+        return findExisting(id).map(UserRow::toResponse);
+    }
+
+    public Flux<UserResponse> getAllUsers() {
+        return ReactiveTenant.current().flatMapMany(userRepository::findAll).map(UserRow::toResponse);
+    }
+
+    public Mono<UserResponse> updateUser(Long id, UserRequest userRequest) {
+        return findExisting(id).flatMap(user -> checkUnique(user, userRequest)
+                .then(Mono.defer(() -> {
+                    boolean newPassword = userRequest.getPassword() != null
+                            && !userRequest.getPassword().trim().isEmpty();
+                    return newPassword ? encode(userRequest.getPassword()) : Mono.just(user.password());
+                }))
+                .flatMap(hash -> userRepository.update(new UserRow(user.id(), user.tenantId(),
+                        userRequest.getUsername(), userRequest.getEmail(), hash, userRequest.getRole())))
+                .flatMap(updated -> updated.role().equals(user.role())
+                        ? Mono.just(updated)
+                        : refreshTokenService.revokeAllForUser(updated.id()).thenReturn(updated)))
+                .map(UserRow::toResponse);
+    }
+
+    public Mono<Void> deleteUser(Long id) {
+        return findExisting(id)
+                .flatMap(user -> userRepository.deleteById(user.tenantId(), user.id()))
+                .then(refreshTokenService.revokeAllForUser(id))
+                .then();
+    }
+
+    private Mono<UserRow> findExisting(Long id) {
+        return ReactiveTenant.current()
+                .flatMap(tenantId -> userRepository.findById(tenantId, id))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("User not found with id: " + id)));
+    }
+
+    private Mono<Void> checkUnique(UserRow user, UserRequest userRequest) {
+        Mono<Void> username = user.username().equals(userRequest.getUsername())
+                ? Mono.empty()
+                : userRepository.existsByUsername(user.tenantId(), userRequest.getUsername())
+                        .flatMap(taken -> taken ? Mono.error(new BadRequestException("Username is already taken")) : Mono.empty());
+        Mono<Void> email = user.email().equals(userRequest.getEmail())
+                ? Mono.empty()
+                : userRepository.existsByEmail(user.tenantId(), userRequest.getEmail())
+                        .flatMap(taken -> taken ? Mono.error(new BadRequestException("Email is already in use")) : Mono.empty());
+        return username.then(email);
+    }
+
+    private Mono<String> encode(String rawPassword) {
+        return Mono.fromCallable(() -> passwordEncoder.encode(rawPassword)).subscribeOn(passwordHashingScheduler);
+    }
+}
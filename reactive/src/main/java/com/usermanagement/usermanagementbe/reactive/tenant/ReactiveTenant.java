@@ -0,0 +1,41 @@
+package com.usermanagement.usermanagementbe.reactive.tenant;
+
+import com.usermanagement.usermanagementbe.tenant.TenantContext;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.function.Supplier;
+
+/**
+ * The reactive counterpart of {@link TenantContext}: requests hop threads, so
+ * the tenant travels in the Reactor context instead of a ThreadLocal. There
+ * is no Hibernate filter here either; every query takes the tenant explicitly.
+ */
+public final class ReactiveTenant {
+
+    private static final String KEY = ReactiveTenant.class.getName();
+
+    private ReactiveTenant() {
+    }
+
+    public static Mono<String> current() {
+        return Mono.deferContextual(context -> Mono.just(context.getOrDefault(KEY, TenantContext.DEFAULT_TENANT)));
+    }
+
+    public static Context with(String tenantId) {
+        return Context.of(KEY, tenantId);
+    }
+
+    /**
+     * Runs blocking-free code that reads {@link TenantContext} (such as token
+     * generation) with the given tenant bound to the current thread.
+     */
+    public static <T> T callAs(String tenantId, Supplier<T> action) {
+        TenantContext.setTenantId(tenantId);
+        try {
+            return action.get();
+        } finally {
+            TenantContext.clear();
+        }
+    }
+}
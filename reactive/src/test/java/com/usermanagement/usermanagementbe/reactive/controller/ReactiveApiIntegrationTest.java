@@ -0,0 +1,204 @@
+package com.usermanagement.usermanagementbe.reactive.controller;
+
+import com.usermanagement.usermanagementbe.dto.AuthResponse;
+import com.usermanagement.usermanagementbe.dto.LoginRequest;
+import com.usermanagement.usermanagementbe.dto.TokenRefreshRequest;
+import com.usermanagement.usermanagementbe.dto.UserRequest;
+import com.usermanagement.usermanagementbe.dto.UserResponse;
+import com.usermanagement.usermanagementbe.reactive.repository.ReactiveUserRepository;
+import com.usermanagement.usermanagementbe.reactive.repository.UserRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+public class ReactiveApiIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ReactiveUserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    public void setup() {
+        databaseClient.sql("DELETE FROM refresh_tokens").then().block();
+        databaseClient.sql("DELETE FROM users").then().block();
+        createUser("default", "admin", "ADMIN");
+        createUser("default", "user", "USER");
+        createUser("acme", "admin", "ADMIN");
+    }
+
+    @Test
+    public void testAdminCrudFollowsServletContract() {
+        String token = login("default", "admin").getToken();
+
+        UserResponse created = webTestClient.post().uri("/api/users")
+                .header("Authorization", "Bearer " + token)
+                .bodyValue(new UserRequest("newuser", "new@example.com", "Password1!", "USER"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(UserResponse.class)
+                .returnResult().getResponseBody();
+        assertNotNull(created);
+
+        webTestClient.post().uri("/api/users")
+                .header("Authorization", "Bearer " + token)
+                .bodyValue(new UserRequest("newuser", "other@example.com", "Password1!", "USER"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message").isEqualTo("Username is already taken");
+
+        webTestClient.put().uri("/api/users/{id}", created.getId())
+                .header("Authorization", "Bearer " + token)
+                .bodyValue(new UserRequest("renamed", "new@example.com", null, "ADMIN"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.username").isEqualTo("renamed").jsonPath("$.role").isEqualTo("ADMIN");
+
+        webTestClient.get().uri("/api/users")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(3);
+
+        webTestClient.delete().uri("/api/users/{id}", created.getId())
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/api/users/{id}", created.getId())
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testAuthorizationAndValidation() {
+        String token = login("default", "user").getToken();
+
+        webTestClient.get().uri("/api/auth/me")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.username").isEqualTo("user").jsonPath("$.role").isEqualTo("USER");
+
+        webTestClient.post().uri("/api/users")
+                .header("Authorization", "Bearer " + token)
+                .bodyValue(new UserRequest("another", "another@example.com", "Password1!", "USER"))
+                .exchange()
+                .expectStatus().isForbidden();
+
+        webTestClient.get().uri("/api/users/1").exchange().expectStatus().isUnauthorized();
+
+        webTestClient.post().uri("/api/auth/register")
+                .bodyValue(new UserRequest("x", "not-an-email", "short", "USER"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Validation Failed");
+
+        webTestClient.post().uri("/api/auth/login")
+                .bodyValue(new LoginRequest("user", "wrong-password"))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void testRefreshRotationAndLogout() {
+        AuthResponse login = login("default", "user");
+
+        AuthResponse refreshed = webTestClient.post().uri("/api/auth/refresh")
+                .bodyValue(new TokenRefreshRequest(login.getRefreshToken()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(AuthResponse.class)
+                .returnResult().getResponseBody();
+        assertNotNull(refreshed);
+
+        // Replaying the consumed token fails and burns the rotated one as well
+        webTestClient.post().uri("/api/auth/refresh")
+                .bodyValue(new TokenRefreshRequest(login.getRefreshToken()))
+                .exchange()
+                .expectStatus().isUnauthorized();
+        webTestClient.post().uri("/api/auth/refresh")
+                .bodyValue(new TokenRefreshRequest(refreshed.getRefreshToken()))
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        webTestClient.post().uri("/api/auth/logout")
+                .header("Authorization", "Bearer " + refreshed.getToken())
+                .exchange()
+                .expectStatus().isNoContent();
+        webTestClient.get().uri("/api/auth/me")
+                .header("Authorization", "Bearer " + refreshed.getToken())
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void testTenantsAreIsolated() {
+        String acmeToken = login("acme", "admin").getToken();
+
+        webTestClient.get().uri("/api/users")
+                .header("Authorization", "Bearer " + acmeToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].email").isEqualTo("admin@acme.com");
+
+        Long defaultUserId = userRepository.findByUsername("default", "user").map(UserRow::id).block();
+        webTestClient.get().uri("/api/users/{id}", defaultUserId)
+                .header("Authorization", "Bearer " + acmeToken)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testFirstInsertsOnAFreshSequenceGetDistinctPositiveIds() {
+        databaseClient.sql("DELETE FROM refresh_tokens").then().block();
+        databaseClient.sql("DELETE FROM users").then().block();
+        databaseClient.sql("ALTER SEQUENCE users_seq RESTART WITH 1").then().block();
+
+        createUser("default", "first", "USER");
+        createUser("default", "second", "USER");
+
+        Long first = userRepository.findByUsername("default", "first").map(UserRow::id).block();
+        Long second = userRepository.findByUsername("default", "second").map(UserRow::id).block();
+        assertNotNull(first);
+        assertNotNull(second);
+        assertTrue(first > 0, "first id " + first);
+        // The second insert draws from a later block, so the two cannot share an id
+        assertTrue(second > first, "ids " + first + " and " + second);
+    }
+
+    private void createUser(String tenantId, String username, String role) {
+        userRepository.insert(new UserRow(null, tenantId, username, username + "@" + tenantId + ".com",
+                passwordEncoder.encode(username + "123"), role)).block();
+    }
+
+    private AuthResponse login(String tenantId, String username) {
+        return webTestClient.post().uri("/api/auth/login")
+                .header("X-Tenant-ID", tenantId)
+                .bodyValue(new LoginRequest(username, username + "123"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(AuthResponse.class)
+                .returnResult().getResponseBody();
+    }
+}
@@ -0,0 +1,38 @@
+-- Tables as generated by the servlet application's JPA mapping
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT PRIMARY KEY,
+    tenant_id VARCHAR(63) NOT NULL,
+    username VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(255) NOT NULL,
+    deleted_at TIMESTAMP(6) WITH TIME ZONE,
+    version BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT uk_users_tenant_username UNIQUE (tenant_id, username),
+    CONSTRAINT uk_users_tenant_email UNIQUE (tenant_id, email)
+);
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token_hash VARCHAR(64) NOT NULL UNIQUE,
+    user_id BIGINT NOT NULL,
+    tenant_id VARCHAR(63) NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    revoked_at TIMESTAMP(6) WITH TIME ZONE
+);
+
+CREATE TABLE IF NOT EXISTS revoked_access_tokens (
+    jti VARCHAR(36) PRIMARY KEY,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS jwt_signing_keys (
+    kid VARCHAR(36) PRIMARY KEY,
+    algorithm VARCHAR(10) NOT NULL,
+    public_key VARCHAR(4096) NOT NULL,
+    private_key VARCHAR(4096) NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    retired_at TIMESTAMP(6) WITH TIME ZONE
+);
@@ -0,0 +1,24 @@
+#!/usr/bin/env sh
+# Requests per second for GET /api/users/{id} on the servlet and reactive
+# applications. Pin each to the same number of cores first, e.g.
+#   taskset -c 0 java -jar target/user-management-be-0.0.1-SNAPSHOT-exec.jar
+#   taskset -c 1 java -jar reactive/target/user-management-be-reactive-0.0.1-SNAPSHOT.jar
+# and run this (and wrk) on other cores.
+#
+#   scripts/compare-throughput.sh [username] [password] [user id]
+set -eu
+
+USERNAME="${1:-admin}"
+PASSWORD="${2:-admin123}"
+USER_ID="${3:-1}"
+DURATION="${DURATION:-30s}"
+CONNECTIONS="${CONNECTIONS:-256}"
+
+for base in "${SERVLET_URL:-http://localhost:8080}" "${REACTIVE_URL:-http://localhost:8081}"; do
+    token=$(curl -fs -H 'Content-Type: application/json' \
+        -d "{\"username\":\"$USERNAME\",\"password\":\"$PASSWORD\"}" \
+        "$base/api/auth/login" | sed -n 's/.*"token":"\([^"]*\)".*/\1/p')
+    echo "== $base"
+    wrk -t2 -c"$CONNECTIONS" -d"$DURATION" -H "Authorization: Bearer $token" "$base/api/users/$USER_ID" \
+        | grep -E "Requests/sec|Latency"
+done
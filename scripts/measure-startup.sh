@@ -0,0 +1,33 @@
+#!/usr/bin/env sh
+# Time from process start until the first request succeeds.
+#
+#   scripts/measure-startup.sh [url] -- <command to start the app>
+#
+# Example (AOT + CDS image built by the Dockerfile):
+#   scripts/measure-startup.sh http://localhost:8080/.well-known/jwks.json -- \
+#       java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -cp 'application.jar:lib/*' \
+#       com.usermanagement.usermanagementbe.UserManagementBeApplication
+set -eu
+
+URL="http://localhost:8080/.well-known/jwks.json"
+if [ "$1" != "--" ]; then
+    URL="$1"
+    shift
+fi
+shift
+
+start=$(date +%s%N)
+"$@" > startup.log 2>&1 &
+pid=$!
+trap 'kill $pid 2>/dev/null || true' EXIT
+
+until curl -fs -o /dev/null "$URL"; do
+    if ! kill -0 $pid 2>/dev/null; then
+        echo "Application exited before serving a request, see startup.log" >&2
+        exit 1
+    fi
+    sleep 0.05
+done
+end=$(date +%s%N)
+
+echo "First request served after $(( (end - start) / 1000000 )) ms"
@@ -0,0 +1,11 @@
+package com.usermanagement.usermanagementbe.audit;
+
+public enum AuditEventType {
+    LOGIN_SUCCESS,
+    LOGIN_FAILURE,
+    LOGIN_LOCKED,
+    USER_CREATED,
+    USER_UPDATED,
+    USER_DELETED,
+    USERS_BULK_UPDATED
+}
@@ -0,0 +1,187 @@
+package com.usermanagement.usermanagementbe.audit;
+
+import com.usermanagement.usermanagementbe.tenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Audit trail of logins and user changes. {@link #record} only puts the
+ * event into a lock-free ring buffer, so callers on hot paths never wait for
+ * the database. A single writer thread drains the buffer into
+ * {@code audit_events} with JDBC batch inserts, once
+ * {@code audit.batch-size} events are waiting or every
+ * {@code audit.flush-interval-ms}.
+ * <p>
+ * When the buffer is full, {@code audit.full-policy=drop} discards the new
+ * event and counts it; {@code block} makes the caller wait up to
+ * {@code audit.block-timeout-ms} for room before dropping. Events in a batch
+ * that fails to insert are dropped and counted too. What is still buffered
+ * is written when the context shuts down.
+ */
+@Component
+public class AuditLog implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+
+    private static final String INSERT = "INSERT INTO audit_events "
+            + "(tenant_id, occurred_at, type, actor, subject, detail) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${audit.batch-size:500}")
+    private int batchSize;
+
+    @Value("${audit.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${audit.full-policy:drop}")
+    private String fullPolicy;
+
+    @Value("${audit.block-timeout-ms:50}")
+    private long blockTimeoutMs;
+
+    private final AuditRingBuffer<AuditRecord> buffer;
+
+    private final LongAdder written = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile Thread writer;
+
+    private volatile boolean running;
+
+    public AuditLog(@Value("${audit.buffer-size:8192}") int bufferSize) {
+        this.buffer = new AuditRingBuffer<>(bufferSize);
+    }
+
+    public void record(AuditEventType type, String actor, String subject, String detail) {
+        AuditRecord record = new AuditRecord(TenantContext.getTenantId(), Instant.now(), type,
+                truncate(actor), truncate(subject), truncate(detail));
+        if (!buffer.offer(record) && !(blocking() && offerWithin(record, blockTimeoutMs))) {
+            dropped.increment();
+            return;
+        }
+        if (buffer.size() >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("audit-writer").daemon().start(this::writeLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stopped after the web server has drained, so in-flight requests are still audited
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    /**
+     * Writes everything buffered so far. The writer thread does this on its
+     * own; tests call it to avoid waiting for the interval.
+     */
+    public synchronized void flush() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (buffer.drain(batch::add, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void writeLoop() {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (running) {
+            if (buffer.size() < batchSize) {
+                LockSupport.parkNanos(this, intervalNanos);
+            }
+            flush();
+        }
+        flush();
+    }
+
+    private void write(List<AuditRecord> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT, batch, batch.size(), (statement, record) -> {
+                statement.setString(1, record.tenantId());
+                statement.setTimestamp(2, Timestamp.from(record.occurredAt()));
+                statement.setString(3, record.type().name());
+                statement.setString(4, record.actor());
+                statement.setString(5, record.subject());
+                statement.setString(6, record.detail());
+            });
+            written.add(batch.size());
+        } catch (Exception ex) {
+            dropped.add(batch.size());
+            log.warn("Dropped {} audit events: {}", batch.size(), ex.getMessage());
+        }
+    }
+
+    private boolean blocking() {
+        return "block".equalsIgnoreCase(fullPolicy);
+    }
+
+    private boolean offerWithin(AuditRecord record, long timeoutMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        LockSupport.unpark(writer);
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            if (buffer.offer(record)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > MAX_TEXT_LENGTH ? value.substring(0, MAX_TEXT_LENGTH) : value;
+    }
+}
@@ -0,0 +1,10 @@
+package com.usermanagement.usermanagementbe.audit;
+
+import java.time.Instant;
+
+/**
+ * An audit event waiting in {@link AuditLog}'s buffer to be written.
+ */
+record AuditRecord(String tenantId, Instant occurredAt, AuditEventType type, String actor, String subject,
+                   String detail) {
+}
@@ -0,0 +1,74 @@
+package com.usermanagement.usermanagementbe.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue for many producers and one consumer. Producers
+ * claim a slot by advancing {@code tail} with a CAS and then publish the
+ * element into it; the consumer takes published elements in order and
+ * frees their slots. A slot claimed but not yet published ends a drain
+ * early, and is picked up by the next one.
+ */
+final class AuditRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+
+    // Only the consumer writes head; producers read it to check for space
+    private volatile long head;
+
+    AuditRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds {@code element} unless the buffer is full.
+     */
+    boolean offer(E element) {
+        while (true) {
+            long claimed = tail.get();
+            if (claimed - head >= slots.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(claimed, claimed + 1)) {
+                slots.set((int) claimed & mask, element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Hands up to {@code max} elements to {@code consumer}, oldest first.
+     * Must only be called from one thread at a time.
+     */
+    int drain(Consumer<E> consumer, int max) {
+        long position = head;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) position & mask;
+            E element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.set(index, null);
+            position++;
+            drained++;
+            consumer.accept(element);
+        }
+        head = position;
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,39 @@
+package com.usermanagement.usermanagementbe.audit;
+
+import com.usermanagement.usermanagementbe.event.UserCreatedEvent;
+import com.usermanagement.usermanagementbe.event.UserDeletedEvent;
+import com.usermanagement.usermanagementbe.event.UserEvent;
+import com.usermanagement.usermanagementbe.event.UserEventHandler;
+import com.usermanagement.usermanagementbe.event.UserUpdatedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Audits user changes once their transaction has committed, so rolled-back
+ * changes never show up in the trail.
+ */
+@Component
+public class AuditUserEventHandler implements UserEventHandler {
+
+    @Autowired
+    private AuditLog auditLog;
+
+    @Override
+    public void handle(UserEvent event) {
+        String subject = String.valueOf(event.getUserId());
+        if (event instanceof UserCreatedEvent created) {
+            auditLog.record(AuditEventType.USER_CREATED, event.getActor(), subject,
+                    created.getUsername() + " as " + created.getRole());
+        } else if (event instanceof UserUpdatedEvent updated) {
+            String detail = updated.isRoleChanged()
+                    ? "role " + updated.getPreviousRole() + " -> " + updated.getRole()
+                    : null;
+            if (updated.isPasswordChanged()) {
+                detail = detail == null ? "password changed" : detail + ", password changed";
+            }
+            auditLog.record(AuditEventType.USER_UPDATED, event.getActor(), subject, detail);
+        } else if (event instanceof UserDeletedEvent) {
+            auditLog.record(AuditEventType.USER_DELETED, event.getActor(), subject, null);
+        }
+    }
+}
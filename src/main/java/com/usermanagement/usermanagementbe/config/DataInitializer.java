@@ -2,13 +2,25 @@ package com.usermanagement.usermanagementbe.config;
 
 import com.usermanagement.usermanagementbe.entity.User;
 import com.usermanagement.usermanagementbe.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+/**
+ * Seeds the default accounts once the application reports ready. By default
+ * this happens on a background thread, so the two BCrypt hashes and lookups
+ * don't hold up the first request. The instance reports ready only once
+ * seeding has finished.
+ */
 @Component
-public class DataInitializer implements CommandLineRunner {
+public class DataInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
 
     @Autowired
     private UserRepository userRepository;
@@ -16,8 +28,34 @@ public class DataInitializer implements CommandLineRunner {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
-    @Override
-    public void run(String... args) throws Exception {
+    @Value("${app.seed.async:true}")
+    private boolean async;
+
+    private volatile boolean completed;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!async) {
+            run();
+            completed = true;
+            return;
+        }
+        Thread.ofVirtual().name("data-initializer").start(() -> {
+            try {
+                run();
+            } catch (Exception ex) {
+                log.error("Seeding default users failed", ex);
+            } finally {
+                completed = true;
+            }
+        });
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public void run() {
         // Create default admin user if it doesn't exist
         if (!userRepository.existsByUsername("admin")) {
             User admin = new User();
@@ -0,0 +1,42 @@
+package com.usermanagement.usermanagementbe.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sizes every Hikari pool from the number of cores when
+ * {@code datasource.pool.auto-size} is on, following the
+ * {@code cores * 2 + effective spindles} rule of thumb. A pool much larger
+ * than that only queues work inside the database instead of in the pool.
+ * Pools stay fixed-size, so no connections are opened under load.
+ */
+@Component
+public class HikariPoolSizer implements BeanPostProcessor, EnvironmentAware {
+
+    private static final Logger log = LoggerFactory.getLogger(HikariPoolSizer.class);
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource
+                && environment.getProperty("datasource.pool.auto-size", Boolean.class, false)) {
+            int spindles = environment.getProperty("datasource.pool.effective-spindles", Integer.class, 1);
+            int size = Runtime.getRuntime().availableProcessors() * 2 + spindles;
+            dataSource.setMaximumPoolSize(size);
+            dataSource.setMinimumIdle(size);
+            log.info("Sized connection pool {} to {} connections", beanName, size);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,40 @@
+package com.usermanagement.usermanagementbe.config;
+
+import com.usermanagement.usermanagementbe.dto.AuditEventResponse;
+import com.usermanagement.usermanagementbe.dto.AuditPageResponse;
+import com.usermanagement.usermanagementbe.dto.AuthResponse;
+import com.usermanagement.usermanagementbe.dto.BulkUpdateProgress;
+import com.usermanagement.usermanagementbe.dto.BulkUserUpdateRequest;
+import com.usermanagement.usermanagementbe.dto.LoginRequest;
+import com.usermanagement.usermanagementbe.dto.TokenRefreshRequest;
+import com.usermanagement.usermanagementbe.dto.UserPatchRequest;
+import com.usermanagement.usermanagementbe.dto.UserRequest;
+import com.usermanagement.usermanagementbe.dto.UserResponse;
+import com.usermanagement.usermanagementbe.entity.AuditEvent;
+import com.usermanagement.usermanagementbe.entity.DeadLetterEvent;
+import com.usermanagement.usermanagementbe.entity.IdempotencyRecord;
+import com.usermanagement.usermanagementbe.entity.RefreshToken;
+import com.usermanagement.usermanagementbe.entity.RevokedToken;
+import com.usermanagement.usermanagementbe.entity.Role;
+import com.usermanagement.usermanagementbe.entity.SigningKey;
+import com.usermanagement.usermanagementbe.entity.User;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reflection metadata for native images. Spring infers the body types of
+ * controller methods, but DTOs are also read and written outside handlers,
+ * for example by tests and by error paths. They are listed here so binding
+ * never depends on a handler's signature. The entities are added on top of
+ * what Spring Data JPA contributes, for Hibernate's property access.
+ */
+@Configuration(proxyBeanMethods = false)
+@RegisterReflectionForBinding({
+        AuthResponse.class, LoginRequest.class, TokenRefreshRequest.class, UserRequest.class, UserResponse.class,
+        BulkUserUpdateRequest.class, BulkUpdateProgress.class, UserPatchRequest.class,
+        AuditEventResponse.class, AuditPageResponse.class,
+        User.class, RefreshToken.class, RevokedToken.class, SigningKey.class, DeadLetterEvent.class,
+        Role.class, IdempotencyRecord.class, AuditEvent.class
+})
+public class NativeHintsConfig {
+}
@@ -0,0 +1,68 @@
+package com.usermanagement.usermanagementbe.config;
+
+import com.usermanagement.usermanagementbe.tenant.TenantContext;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers who wrote to the primary recently, so their reads skip the
+ * replica until replication has had time to catch up. Callers are keyed by
+ * tenant plus principal, or by client address for anonymous requests such as
+ * register followed by login.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final long windowMs;
+    private final Map<String, Long> lastWriteMs = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    public void markWrite() {
+        String key = currentCallerKey();
+        if (key == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        lastWriteMs.put(key, now);
+        if (lastWriteMs.size() > CLEANUP_THRESHOLD) {
+            lastWriteMs.values().removeIf(writtenAt -> now - writtenAt > windowMs);
+        }
+    }
+
+    public boolean wroteRecently() {
+        String key = currentCallerKey();
+        if (key == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteMs.get(key);
+        return writtenAt != null && System.currentTimeMillis() - writtenAt <= windowMs;
+    }
+
+    private static String currentCallerKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return TenantContext.getTenantId() + ":" + authentication.getName();
+        }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            String forwarded = request.getHeader("X-Forwarded-For");
+            String client = forwarded != null && !forwarded.isBlank()
+                    ? forwarded.split(",")[0].trim()
+                    : request.getRemoteAddr();
+            return TenantContext.getTenantId() + "@" + client;
+        }
+        return null;
+    }
+}
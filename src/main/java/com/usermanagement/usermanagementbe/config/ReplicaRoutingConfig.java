@@ -0,0 +1,125 @@
+package com.usermanagement.usermanagementbe.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Splits traffic between the primary and a read replica once
+ * {@code spring.datasource.replica.url} is set. Connections are fetched
+ * lazily, so by the time a statement runs the transaction's read-only flag is
+ * known: {@code @Transactional(readOnly = true)} work goes to the replica
+ * unless the caller wrote within the read-your-writes window, everything
+ * else goes to the primary.
+ */
+@Configuration
+@ConditionalOnProperty("spring.datasource.replica.url")
+@ImportRuntimeHints(ReplicaRoutingConfig.ConnectionProxyHints.class)
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(
+            @Qualifier("primaryDataSourceProperties") DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource.routing.read-your-writes-window-ms:5000}") long windowMs) {
+        return new ReadYourWritesTracker(windowMs);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReadYourWritesTracker tracker) {
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(new WriteTrackingDataSource(primary, tracker));
+        routing.setReadOnlyDataSource(new DelegatingDataSource(replica) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return tracker.wroteRecently() ? primary.getConnection() : super.getConnection();
+            }
+        });
+        return routing;
+    }
+
+    /**
+     * Marks the caller as a recent writer when a primary connection is taken
+     * and again when it is released, so the window starts after commit.
+     */
+    private static class WriteTrackingDataSource extends DelegatingDataSource {
+
+        private final ReadYourWritesTracker tracker;
+
+        WriteTrackingDataSource(DataSource target, ReadYourWritesTracker tracker) {
+            super(target);
+            this.tracker = tracker;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            tracker.markWrite();
+            Connection connection = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("close")) {
+                            tracker.markWrite();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException ex) {
+                            throw ex.getTargetException();
+                        }
+                    });
+        }
+    }
+
+    static class ConnectionProxyHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.proxies().registerJdkProxy(Connection.class);
+        }
+    }
+}
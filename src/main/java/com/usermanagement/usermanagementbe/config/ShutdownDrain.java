@@ -0,0 +1,56 @@
+package com.usermanagement.usermanagementbe.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps serving for {@code server.drain.delay-ms} after shutdown begins.
+ * Spring Boot withdraws readiness first, so {@code /health/ready} already
+ * fails while requests are still accepted. That gives the load balancer time
+ * to take the instance out before graceful shutdown stops new connections
+ * and waits up to {@code spring.lifecycle.timeout-per-shutdown-phase} for
+ * in-flight requests, including asynchronous logins.
+ */
+@Component
+public class ShutdownDrain implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ShutdownDrain.class);
+
+    @Value("${server.drain.delay-ms:0}")
+    private long delayMs;
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (delayMs <= 0) {
+            return;
+        }
+        log.info("Draining for {} ms before the web server stops", delayMs);
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stopped first, before the web server's graceful shutdown phase
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,93 @@
+package com.usermanagement.usermanagementbe.config;
+
+import com.usermanagement.usermanagementbe.security.JwtTokenProvider;
+import com.usermanagement.usermanagementbe.security.LoginAttemptGuard;
+import com.usermanagement.usermanagementbe.security.UserDetailsServiceImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the login path's hot code before the instance takes traffic.
+ * Application runners finish before Spring Boot switches readiness to
+ * {@code ACCEPTING_TRAFFIC}, so {@code /health/ready} stays down until this
+ * is done, while the port is already open.
+ * <ul>
+ *   <li>Signs and verifies {@code app.warmup.iterations} tokens, so JWT
+ *   handling is compiled rather than interpreted on the first requests.</li>
+ *   <li>Hashes and checks {@code app.warmup.password-hashes} passwords. The
+ *   measured times seed the login guard's padding for skipped checks.</li>
+ *   <li>Looks up an unknown user, which opens pooled connections and caches
+ *   Hibernate's plan for the principal query.</li>
+ * </ul>
+ * Role permissions and the token revocation index are loaded before the web
+ * server starts and need no warm-up. Stops early after {@code app.warmup.max-ms}.
+ */
+@Component
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private static final String PROBE_USERNAME = "warmup-probe";
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private LoginAttemptGuard loginAttemptGuard;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Value("${app.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.warmup.iterations:500}")
+    private int iterations;
+
+    @Value("${app.warmup.password-hashes:4}")
+    private int passwordHashes;
+
+    @Value("${app.warmup.max-ms:10000}")
+    private long maxMs;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.MILLISECONDS.toNanos(maxMs);
+        try {
+            for (int i = 0; i < iterations && System.nanoTime() < deadline; i++) {
+                tokenProvider.parseAndValidate(tokenProvider.generateToken(PROBE_USERNAME));
+            }
+            String hash = passwordEncoder.encode(PROBE_USERNAME);
+            for (int i = 0; i < passwordHashes && System.nanoTime() < deadline; i++) {
+                long hashStarted = System.nanoTime();
+                passwordEncoder.matches(PROBE_USERNAME, hash);
+                loginAttemptGuard.recordHashTime(System.nanoTime() - hashStarted);
+            }
+            try {
+                userDetailsService.loadUserByUsername(PROBE_USERNAME);
+            } catch (UsernameNotFoundException expected) {
+                // The query ran, which is all the warm-up needs
+            }
+        } catch (Exception ex) {
+            // A cold start is slower, not broken
+            log.warn("Warm-up stopped early: {}", ex.getMessage());
+        }
+        log.info("Warm-up finished in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+}
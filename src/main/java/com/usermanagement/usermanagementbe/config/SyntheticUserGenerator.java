@@ -0,0 +1,282 @@
+package com.usermanagement.usermanagementbe.config;
+
+import com.usermanagement.usermanagementbe.entity.User;
+import com.usermanagement.usermanagementbe.tenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills the users table with synthetic accounts for scale and performance
+ * testing. Off unless {@code app.synthetic.users} is above 0; the accounts
+ * are then inserted once, before the instance reports ready.
+ * <ul>
+ *   <li>Rows go in through batched JDBC inserts of {@code batch-size} rows,
+ *   bypassing Hibernate and the user events (no audit entries). Ids come
+ *   from {@code users_seq} in blocks, as Hibernate's pooled optimizer takes
+ *   them, so users created later through the API never collide.</li>
+ *   <li>Every account shares one BCrypt hash of {@code app.synthetic.password}.</li>
+ *   <li>Each row is derived from its ordinal and {@code seed} alone, so
+ *   {@link #usernameFor} names an existing account without a query.</li>
+ * </ul>
+ * Distributions: email domains lean heavily on a few providers with a long
+ * tail of company domains, {@code admin-ratio} of the accounts are admins,
+ * {@code never-logged-in-ratio} never logged in, and the rest logged in
+ * recently more often than not. {@code deleted-ratio} are tombstones. Like
+ * {@code UserPurger}, this only reaches the default schema with
+ * {@code tenancy.mode=schema}. On PostgreSQL, add
+ * {@code reWriteBatchedInserts=true} to the JDBC URL for multi-row inserts.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SyntheticUserGenerator implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticUserGenerator.class);
+
+    private static final String INSERT = "INSERT INTO users (id, tenant_id, username, email, password, role, "
+            + "version, login_count, last_login_at, deleted_at) VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?, ?)";
+
+    private static final String[] FIRST_NAMES = {
+            "james", "mary", "john", "patricia", "robert", "jennifer", "michael", "linda", "william", "elizabeth",
+            "david", "barbara", "richard", "susan", "joseph", "jessica", "thomas", "sarah", "charles", "karen",
+            "wei", "li", "ahmed", "fatima", "carlos", "maria", "juan", "ana", "hiroshi", "yuki",
+            "ivan", "olga", "arjun", "priya", "kwame", "amara", "lucas", "sofia", "noah", "emma"};
+
+    private static final String[] LAST_NAMES = {
+            "smith", "johnson", "williams", "brown", "jones", "garcia", "miller", "davis", "rodriguez", "martinez",
+            "hernandez", "lopez", "gonzalez", "wilson", "anderson", "thomas", "taylor", "moore", "jackson", "martin",
+            "wang", "zhang", "chen", "kim", "nguyen", "patel", "singh", "khan", "tanaka", "sato",
+            "ivanov", "petrov", "silva", "santos", "mensah", "okafor", "muller", "schmidt", "rossi", "dubois"};
+
+    // Consumer providers by share of accounts; the remainder is spread over company domains
+    private static final String[] PROVIDERS = {"gmail.com", "outlook.com", "yahoo.com", "icloud.com", "proton.me"};
+    private static final double[] PROVIDER_SHARES = {0.35, 0.18, 0.12, 0.08, 0.02};
+    private static final int COMPANY_DOMAINS = 500;
+
+    private static final long DAY_MS = TimeUnit.DAYS.toMillis(1);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${app.synthetic.users:0}")
+    private int users;
+
+    @Value("${app.synthetic.tenant:" + TenantContext.DEFAULT_TENANT + "}")
+    private String tenantId;
+
+    @Value("${app.synthetic.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.synthetic.seed:42}")
+    private long seed;
+
+    @Value("${app.synthetic.password:synthetic123}")
+    private String password;
+
+    @Value("${app.synthetic.admin-ratio:0.01}")
+    private double adminRatio;
+
+    @Value("${app.synthetic.never-logged-in-ratio:0.2}")
+    private double neverLoggedInRatio;
+
+    @Value("${app.synthetic.deleted-ratio:0.01}")
+    private double deletedRatio;
+
+    private volatile Boolean postgres;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (users <= 0) {
+            return;
+        }
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE tenant_id = ? AND username = ?",
+                Integer.class, tenantId, usernameFor(0)) > 0) {
+            log.info("Synthetic users already present in tenant {}, not generating", tenantId);
+            return;
+        }
+        generate(tenantId, 0, users);
+    }
+
+    /**
+     * Inserts the accounts with ordinals {@code firstOrdinal} to
+     * {@code firstOrdinal + count - 1} into {@code tenantId}. Ordinals
+     * already present fail on the unique username constraint.
+     *
+     * @return the number of rows inserted, tombstones included
+     */
+    public int generate(String tenantId, long firstOrdinal, int count) {
+        if (!TenantContext.isValid(tenantId)) {
+            throw new IllegalArgumentException("Invalid tenant id");
+        }
+        long started = System.nanoTime();
+        String hash = passwordEncoder.encode(password);
+        Instant now = Instant.now();
+
+        int inserted = 0;
+        while (inserted < count) {
+            int size = Math.min(batchSize, count - inserted);
+            List<Long> ids = reserveIds(size);
+            long base = firstOrdinal + inserted;
+            jdbcTemplate.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement statement, int i) throws SQLException {
+                    Row row = row(base + i, now);
+                    statement.setLong(1, ids.get(i));
+                    statement.setString(2, tenantId);
+                    statement.setString(3, row.username());
+                    statement.setString(4, row.email());
+                    statement.setString(5, hash);
+                    statement.setString(6, row.role());
+                    statement.setLong(7, row.loginCount());
+                    setInstant(statement, 8, row.lastLoginAt());
+                    setInstant(statement, 9, row.deletedAt());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+            inserted += size;
+        }
+
+        long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        log.info("Generated {} synthetic users in tenant {} in {} ms ({} rows/s)",
+                inserted, tenantId, elapsedMs, inserted * 1000L / elapsedMs);
+        return inserted;
+    }
+
+    /**
+     * The username of the account with this ordinal. Tombstoned ordinals
+     * (see {@link #isDeleted}) cannot log in or be looked up.
+     */
+    public String usernameFor(long ordinal) {
+        return username(randomFor(ordinal), ordinal);
+    }
+
+    public boolean isDeleted(long ordinal) {
+        return row(ordinal, Instant.now()).deletedAt() != null;
+    }
+
+    private record Row(String username, String email, String role, long loginCount,
+                       Instant lastLoginAt, Instant deletedAt) {
+    }
+
+    // Draw order matters: the username comes first, so usernameFor agrees with row
+    private Row row(long ordinal, Instant now) {
+        SplittableRandom random = randomFor(ordinal);
+        String username = username(random, ordinal);
+        String email = username + "@" + domain(random);
+        String role = random.nextDouble() < adminRatio ? "ADMIN" : "USER";
+
+        long loginCount = 0;
+        Instant lastLoginAt = null;
+        if (random.nextDouble() >= neverLoggedInRatio) {
+            // Exponential: most accounts were active in the last week, a few not for months
+            long ageMs = (long) Math.min(365 * DAY_MS, exponential(random, 7 * DAY_MS));
+            lastLoginAt = now.minusMillis(ageMs);
+            loginCount = 1 + (long) exponential(random, 20);
+        }
+        Instant deletedAt = random.nextDouble() < deletedRatio
+                ? now.minusMillis(random.nextLong(DAY_MS / 2)) : null;
+        return new Row(username, email, role, loginCount, lastLoginAt, deletedAt);
+    }
+
+    // The ordinal keeps names unique however often a first/last pair repeats
+    private static String username(SplittableRandom random, long ordinal) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + "."
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + ordinal;
+    }
+
+    private static String domain(SplittableRandom random) {
+        double draw = random.nextDouble();
+        for (int i = 0; i < PROVIDERS.length; i++) {
+            draw -= PROVIDER_SHARES[i];
+            if (draw < 0) {
+                return PROVIDERS[i];
+            }
+        }
+        // Cubing skews the pick toward low numbers: a few large employers, many small ones
+        int company = (int) (COMPANY_DOMAINS * Math.pow(random.nextDouble(), 3));
+        return "company" + company + ".example";
+    }
+
+    private static double exponential(SplittableRandom random, double mean) {
+        return -Math.log(1 - random.nextDouble()) * mean;
+    }
+
+    private SplittableRandom randomFor(long ordinal) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + ordinal);
+    }
+
+    /**
+     * Takes {@code size} ids from {@code users_seq}. Every value the sequence
+     * hands out is the top of a block of {@link User#ID_ALLOCATION_SIZE} ids
+     * that belongs to whoever fetched it, exactly as for Hibernate's pooled
+     * optimizer, so one value is fetched per block, all in one query. Only a
+     * fresh sequence's first value (1) makes for a short block.
+     */
+    private List<Long> reserveIds(int size) {
+        String sql = isPostgres()
+                ? "SELECT nextval('users_seq') FROM generate_series(1, ?)"
+                : "SELECT NEXT VALUE FOR users_seq FROM SYSTEM_RANGE(1, ?)";
+        List<Long> ids = new ArrayList<>(size);
+        while (ids.size() < size) {
+            int blocks = (size - ids.size() + User.ID_ALLOCATION_SIZE - 1) / User.ID_ALLOCATION_SIZE;
+            for (Long top : jdbcTemplate.queryForList(sql, Long.class, blocks)) {
+                for (long id = Math.max(1, top - User.ID_ALLOCATION_SIZE + 1);
+                     id <= top && ids.size() < size; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            try (Connection connection = dataSource.getConnection()) {
+                postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+            } catch (SQLException ex) {
+                throw new IllegalStateException("Could not determine the database product", ex);
+            }
+        }
+        return postgres;
+    }
+
+    private static void setInstant(PreparedStatement statement, int index, Instant value)
+            throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.TIMESTAMP);
+        } else {
+            statement.setTimestamp(index, Timestamp.from(value));
+        }
+    }
+}
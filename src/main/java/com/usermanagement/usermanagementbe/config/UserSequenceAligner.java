@@ -0,0 +1,48 @@
+package com.usermanagement.usermanagementbe.config;
+
+import com.usermanagement.usermanagementbe.entity.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * Moves {@code users_seq} past the highest existing id. Databases created
+ * while users.id was an identity column already hold rows, and ddl-auto
+ * creates the new sequence starting at 1. The sequence only ever moves
+ * forward, so running this on every start of every instance is safe. Runs
+ * before {@link DataInitializer} seeds anything.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UserSequenceAligner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(UserSequenceAligner.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+        }
+        // The pooled optimizer hands out (value - allocationSize, value], so the
+        // next value must be at least max(id) + allocationSize
+        Long value = new JdbcTemplate(dataSource).queryForObject(
+                "SELECT setval('users_seq', GREATEST(nextval('users_seq'), "
+                        + "(SELECT COALESCE(MAX(id), 0) FROM users) + ?))",
+                Long.class, User.ID_ALLOCATION_SIZE);
+        log.debug("users_seq aligned to {}", value);
+    }
+}
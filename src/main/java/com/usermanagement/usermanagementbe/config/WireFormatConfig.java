@@ -0,0 +1,42 @@
+package com.usermanagement.usermanagementbe.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.usermanagement.usermanagementbe.dto.AuthResponse;
+import com.usermanagement.usermanagementbe.dto.LoginRequest;
+import com.usermanagement.usermanagementbe.dto.TokenRefreshRequest;
+import com.usermanagement.usermanagementbe.dto.UserRequest;
+import com.usermanagement.usermanagementbe.dto.UserResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+
+/**
+ * CBOR as an alternative wire format for service-to-service callers, chosen
+ * with {@code Accept: application/cbor} (and {@code Content-Type} for request
+ * bodies). Browsers and anything that does not ask keep getting JSON.
+ * <p>
+ * The CBOR mapper is built from Boot's Jackson builder, so it follows the
+ * same {@code spring.jackson.*} settings as JSON. Serializers and
+ * deserializers for the API DTOs are resolved here at startup instead of
+ * on the first request that needs them.
+ */
+@Configuration(proxyBeanMethods = false)
+public class WireFormatConfig {
+
+    private static final List<Class<?>> DTO_TYPES = List.of(AuthResponse.class, LoginRequest.class,
+            TokenRefreshRequest.class, UserRequest.class, UserResponse.class);
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper mapper = builder.createXmlMapper(false).factory(new CBORFactory()).build();
+        for (Class<?> type : DTO_TYPES) {
+            mapper.canSerialize(type);
+            mapper.canDeserialize(mapper.constructType(type));
+        }
+        return new MappingJackson2CborHttpMessageConverter(mapper);
+    }
+}
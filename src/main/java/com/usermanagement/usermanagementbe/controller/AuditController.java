@@ -0,0 +1,59 @@
+package com.usermanagement.usermanagementbe.controller;
+
+import com.usermanagement.usermanagementbe.audit.AuditEventType;
+import com.usermanagement.usermanagementbe.dto.AuditEventResponse;
+import com.usermanagement.usermanagementbe.dto.AuditPageResponse;
+import com.usermanagement.usermanagementbe.entity.AuditEvent;
+import com.usermanagement.usermanagementbe.exception.BadRequestException;
+import com.usermanagement.usermanagementbe.repository.AuditEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/audit")
+public class AuditController {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    @Autowired
+    private AuditEventRepository auditEventRepository;
+
+    /**
+     * Audit events of the caller's tenant, newest first. Events become
+     * visible once the audit writer has flushed them, normally within
+     * {@code audit.flush-interval-ms}.
+     */
+    @GetMapping
+    @PreAuthorize("@authz.has(authentication, 'AUDIT_READ')")
+    public ResponseEntity<AuditPageResponse> getAuditEvents(@RequestParam(defaultValue = "0") int page,
+                                                            @RequestParam(defaultValue = "50") int size,
+                                                            @RequestParam(required = false) String type) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("page must be at least 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        PageRequest pageRequest = PageRequest.of(page, size);
+        Slice<AuditEvent> events = type == null
+                ? auditEventRepository.findAllByOrderByOccurredAtDescIdDesc(pageRequest)
+                : auditEventRepository.findByTypeOrderByOccurredAtDescIdDesc(parseType(type), pageRequest);
+
+        return ResponseEntity.ok(new AuditPageResponse(
+                events.map(event -> new AuditEventResponse(event.getId(), event.getOccurredAt(),
+                        event.getType().name(), event.getActor(), event.getSubject(), event.getDetail())).getContent(),
+                page, size, events.hasNext()));
+    }
+
+    private static AuditEventType parseType(String type) {
+        try {
+            return AuditEventType.valueOf(type);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Unknown audit event type: " + type);
+        }
+    }
+}
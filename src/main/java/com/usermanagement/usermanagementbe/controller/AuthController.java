@@ -1,25 +1,45 @@
 package com.usermanagement.usermanagementbe.controller;
 
+import com.usermanagement.usermanagementbe.audit.AuditEventType;
+import com.usermanagement.usermanagementbe.audit.AuditLog;
 import com.usermanagement.usermanagementbe.dto.AuthResponse;
 import com.usermanagement.usermanagementbe.dto.LoginRequest;
+import com.usermanagement.usermanagementbe.dto.TokenRefreshRequest;
 import com.usermanagement.usermanagementbe.dto.UserRequest;
 import com.usermanagement.usermanagementbe.dto.UserResponse;
+import com.usermanagement.usermanagementbe.entity.RefreshToken;
 import com.usermanagement.usermanagementbe.entity.User;
 import com.usermanagement.usermanagementbe.exception.BadRequestException;
+import com.usermanagement.usermanagementbe.exception.LoginLockedException;
+import com.usermanagement.usermanagementbe.exception.TokenRefreshException;
 import com.usermanagement.usermanagementbe.repository.UserRepository;
 import com.usermanagement.usermanagementbe.security.JwtTokenProvider;
+import com.usermanagement.usermanagementbe.security.LoginAttemptGuard;
+import com.usermanagement.usermanagementbe.security.LoginExecutor;
+import com.usermanagement.usermanagementbe.security.TokenRevocationIndex;
 import com.usermanagement.usermanagementbe.security.UserDetailsImpl;
+import com.usermanagement.usermanagementbe.service.IdempotencyService;
+import com.usermanagement.usermanagementbe.service.LoginActivityTracker;
+import com.usermanagement.usermanagementbe.service.RefreshTokenService;
+import com.usermanagement.usermanagementbe.service.UserService;
+import com.usermanagement.usermanagementbe.tenant.TenantContext;
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -32,56 +52,162 @@ public class AuthController {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private UserService userService;
 
     @Autowired
     private JwtTokenProvider tokenProvider;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationIndex revocationIndex;
+
+    @Autowired
+    private LoginAttemptGuard loginAttemptGuard;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private AuditLog auditLog;
+
+    @Autowired
+    private LoginActivityTracker loginActivityTracker;
+
+    @Autowired
+    private LoginExecutor loginExecutor;
+
+    /**
+     * Known-bad passwords and locked-out names are answered without a BCrypt
+     * check, after the time one would take. Repeated failures are answered
+     * progressively later. Both waits are scheduled, not slept, so the
+     * response completes asynchronously. Everything else, from the user
+     * lookup and BCrypt check to issuing tokens, runs on the bounded
+     * {@link LoginExecutor}, so the servlet thread is released right away.
+     */
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        loginRequest.getUsername(),
-                        loginRequest.getPassword()));
+    public CompletableFuture<ResponseEntity<AuthResponse>> authenticateUser(
+            @Valid @RequestBody LoginRequest loginRequest) {
+        String tenantId = TenantContext.getTenantId();
+        String username = loginRequest.getUsername();
+        String password = loginRequest.getPassword();
+
+        switch (loginAttemptGuard.check(tenantId, username, password)) {
+            case LOCKED -> {
+                auditLog.record(AuditEventType.LOGIN_LOCKED, username, username, null);
+                long retryAfterSeconds = (loginAttemptGuard.retryAfterMs(tenantId, username) + 999) / 1000;
+                return LoginAttemptGuard.failAfter(new LoginLockedException(retryAfterSeconds),
+                        loginAttemptGuard.typicalHashMs());
+            }
+            case KNOWN_BAD -> {
+                auditLog.record(AuditEventType.LOGIN_FAILURE, username, username, "Repeated rejected password");
+                long delayMs = loginAttemptGuard.recordFailure(tenantId, username, password);
+                return LoginAttemptGuard.failAfter(new BadCredentialsException("Bad credentials"),
+                        loginAttemptGuard.typicalHashMs() + delayMs);
+            }
+            case ALLOWED -> {
+            }
+        }
+
+        // Read-your-writes routing keys anonymous callers by client address, so a login
+        // right after register only reads the primary if the pool thread sees the request
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return loginExecutor.submit(() -> {
+            // The pool thread starts without the request's tenant, attributes or security context
+            TenantContext.setTenantId(tenantId);
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                return verifyAndIssueTokens(tenantId, username, password);
+            } finally {
+                SecurityContextHolder.clearContext();
+                RequestContextHolder.resetRequestAttributes();
+                TenantContext.clear();
+            }
+        }).thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<ResponseEntity<AuthResponse>> verifyAndIssueTokens(String tenantId, String username,
+                                                                                String password) {
+        Authentication authentication;
+        long started = System.nanoTime();
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(username, password));
+        } catch (BadCredentialsException ex) {
+            loginAttemptGuard.recordHashTime(System.nanoTime() - started);
+            auditLog.record(AuditEventType.LOGIN_FAILURE, username, username, null);
+            return LoginAttemptGuard.failAfter(ex, loginAttemptGuard.recordFailure(tenantId, username, password));
+        }
+        loginAttemptGuard.recordHashTime(System.nanoTime() - started);
+        loginAttemptGuard.reset(tenantId, username);
+        auditLog.record(AuditEventType.LOGIN_SUCCESS, username, username, null);
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
         String jwt = tokenProvider.generateToken(authentication);
 
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        loginActivityTracker.recordLogin(userDetails.getId());
 
-        return ResponseEntity.ok(new AuthResponse(jwt,
+        String refreshToken = refreshTokenService.issue(userDetails.getId());
+
+        return CompletableFuture.completedFuture(ResponseEntity.ok(new AuthResponse(jwt,
+                refreshToken,
                 userDetails.getId(),
                 userDetails.getUsername(),
                 userDetails.getEmail(),
-                userDetails.getAuthorities().iterator().next().getAuthority()));
+                userDetails.getAuthorities().iterator().next().getAuthority())));
     }
 
-    @PostMapping("/register")
-    public ResponseEntity<UserResponse> registerUser(@Valid @RequestBody UserRequest signUpRequest) {
-        if (signUpRequest.getPassword() == null || signUpRequest.getPassword().trim().isEmpty()) {
-            throw new BadRequestException("Password is required");
-        }
-        if (userRepository.existsByUsername(signUpRequest.getUsername())) {
-            throw new BadRequestException("Username is already taken");
-        }
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refreshToken(@Valid @RequestBody TokenRefreshRequest refreshRequest) {
+        RefreshToken consumed = refreshTokenService.consume(refreshRequest.getRefreshToken());
+        TenantContext.setTenantId(consumed.getTenantId());
+        User user = userRepository.findById(consumed.getUserId())
+                .orElseThrow(() -> new TokenRefreshException("Refresh token is invalid or expired"));
 
-        if (userRepository.existsByEmail(signUpRequest.getEmail())) {
-            throw new BadRequestException("Email is already in use");
-        }
+        String jwt = tokenProvider.generateToken(user.getUsername());
+        String refreshToken = refreshTokenService.issue(user.getId());
 
-        User user = new User(signUpRequest.getUsername(),
-                signUpRequest.getEmail(),
-                passwordEncoder.encode(signUpRequest.getPassword()),
-                signUpRequest.getRole());
+        return ResponseEntity.ok(new AuthResponse(jwt,
+                refreshToken,
+                user.getId(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getRole()));
+    }
 
-        User result = userRepository.save(user);
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader("Authorization") String authorization,
+                                       @RequestBody(required = false) TokenRefreshRequest refreshRequest) {
+        Claims claims = tokenProvider.getClaimsFromJWT(authorization.substring(7));
+        revocationIndex.revoke(claims.getId(), claims.getExpiration().toInstant());
 
-        UserResponse userResponse = new UserResponse(result.getId(),
-                result.getUsername(),
-                result.getEmail(),
-                result.getRole());
+        if (refreshRequest != null && refreshRequest.getRefreshToken() != null) {
+            refreshTokenService.revoke(refreshRequest.getRefreshToken());
+        }
+        return ResponseEntity.noContent().build();
+    }
 
-        return new ResponseEntity<>(userResponse, HttpStatus.CREATED);
+    @PostMapping("/register")
+    public ResponseEntity<UserResponse> registerUser(@Valid @RequestBody UserRequest signUpRequest,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute(idempotencyKey, "POST /api/auth/register", signUpRequest.fingerprint(),
+                HttpStatus.CREATED, UserResponse.class, () -> {
+                    if (signUpRequest.getPassword() == null || signUpRequest.getPassword().trim().isEmpty()) {
+                        throw new BadRequestException("Password is required");
+                    }
+                    if (userRepository.existsByUsername(signUpRequest.getUsername())) {
+                        throw new BadRequestException("Username is already taken");
+                    }
+
+                    if (userRepository.existsByEmail(signUpRequest.getEmail())) {
+                        throw new BadRequestException("Email is already in use");
+                    }
+
+                    // Goes through UserService so the UserCreatedEvent is published after commit
+                    return userService.createUser(signUpRequest);
+                });
     }
 
     @GetMapping("/me")
@@ -0,0 +1,99 @@
+package com.usermanagement.usermanagementbe.controller;
+
+import com.usermanagement.usermanagementbe.config.DataInitializer;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Probes for the orchestrator and load balancer.
+ * <ul>
+ *   <li>{@code /health/live} only reflects Spring Boot's liveness state, so a
+ *   slow database never gets the process restarted.</li>
+ *   <li>{@code /health/ready} also requires readiness, which Spring Boot
+ *   grants after startup and warm-up and withdraws as soon as shutdown
+ *   starts, plus finished seeding and a working primary pool.</li>
+ * </ul>
+ */
+@RestController
+@RequestMapping("/health")
+public class HealthController {
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @Autowired
+    private DataInitializer dataInitializer;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${health.database-timeout-seconds:1}")
+    private int databaseTimeoutSeconds;
+
+    @GetMapping("/live")
+    public ResponseEntity<Map<String, Object>> live() {
+        boolean live = availability.getLivenessState() == LivenessState.CORRECT;
+        return probe(live, Map.of("liveness", availability.getLivenessState().name()));
+    }
+
+    @GetMapping("/ready")
+    public ResponseEntity<Map<String, Object>> ready() {
+        Map<String, Object> checks = new LinkedHashMap<>();
+        boolean accepting = availability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC;
+        checks.put("readiness", availability.getReadinessState().name());
+        checks.put("seeding", dataInitializer.isCompleted() ? "UP" : "DOWN");
+        // Skip the database while refusing traffic, so draining does not take a connection
+        boolean database = accepting && databaseUp();
+        checks.put("database", database ? "UP" : "DOWN");
+        return probe(accepting && dataInitializer.isCompleted() && database, checks);
+    }
+
+    private boolean databaseUp() {
+        try {
+            // Unwraps to the primary pool when replica routing is on
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+                if (!pool.isRunning()) {
+                    return false;
+                }
+                // Connections in use show the pool is talking to the database;
+                // probing under load would only queue behind requests
+                HikariPoolMXBean stats = pool.getHikariPoolMXBean();
+                if (stats != null && stats.getActiveConnections() > 0) {
+                    return true;
+                }
+            }
+            try (Connection connection = dataSource.getConnection()) {
+                return connection.isValid(databaseTimeoutSeconds);
+            }
+        } catch (SQLException ex) {
+            return false;
+        }
+    }
+
+    private static ResponseEntity<Map<String, Object>> probe(boolean up, Map<String, Object> checks) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", up ? "UP" : "DOWN");
+        body.put("checks", checks);
+        return ResponseEntity.status(up ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .cacheControl(CacheControl.noStore())
+                .body(body);
+    }
+}
@@ -0,0 +1,43 @@
+package com.usermanagement.usermanagementbe.controller;
+
+import com.usermanagement.usermanagementbe.security.SigningKeyRing;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the public signing keys so other services can verify access
+ * tokens locally instead of calling {@code /api/auth/me}.
+ */
+@RestController
+public class JwksController {
+
+    @Autowired
+    private SigningKeyRing keyRing;
+
+    @Value("${jwt.signing.jwks-max-age-seconds:300}")
+    private long maxAgeSeconds;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<byte[]> getJwks(@RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = keyRing.getJwksEtag();
+        CacheControl cacheControl = CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePublic();
+
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(keyRing.getJwks());
+    }
+}
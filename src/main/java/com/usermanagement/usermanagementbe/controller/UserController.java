@@ -1,19 +1,32 @@
 package com.usermanagement.usermanagementbe.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.usermanagement.usermanagementbe.dto.BulkUserUpdateRequest;
+import com.usermanagement.usermanagementbe.dto.UserPatchRequest;
 import com.usermanagement.usermanagementbe.dto.UserRequest;
 import com.usermanagement.usermanagementbe.dto.UserResponse;
 import com.usermanagement.usermanagementbe.entity.User;
 import com.usermanagement.usermanagementbe.exception.BadRequestException;
 import com.usermanagement.usermanagementbe.exception.ResourceNotFoundException;
 import com.usermanagement.usermanagementbe.repository.UserRepository;
+import com.usermanagement.usermanagementbe.repository.UserSummary;
+import com.usermanagement.usermanagementbe.service.BulkUserUpdater;
+import com.usermanagement.usermanagementbe.service.IdempotencyService;
 import com.usermanagement.usermanagementbe.service.UserService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("/api/users")
@@ -25,35 +38,87 @@ public class UserController {
     @Autowired
     private UserRepository userRepository;
 
-    @PostMapping
-    public ResponseEntity<UserResponse> createUser(@Valid @RequestBody UserRequest userRequest) {
-        if (userRequest.getPassword() == null || userRequest.getPassword().trim().isEmpty()) {
-            throw new BadRequestException("Password is required");
-        }
-        if (userRepository.existsByUsername(userRequest.getUsername())) {
-            throw new BadRequestException("Username is already taken");
-        }
-        if (userRepository.existsByEmail(userRequest.getEmail())) {
-            throw new BadRequestException("Email is already in use");
-        }
+    @Autowired
+    private BulkUserUpdater bulkUserUpdater;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborHttpMessageConverter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
 
-        UserResponse response = userService.createUser(userRequest);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    @PostMapping
+    @PreAuthorize("@authz.has(authentication, 'USER_CREATE')")
+    public ResponseEntity<UserResponse> createUser(@Valid @RequestBody UserRequest userRequest,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute(idempotencyKey, "POST /api/users", userRequest.fingerprint(),
+                HttpStatus.CREATED, UserResponse.class, () -> {
+                    if (userRequest.getPassword() == null || userRequest.getPassword().trim().isEmpty()) {
+                        throw new BadRequestException("Password is required");
+                    }
+                    if (userRepository.existsByUsername(userRequest.getUsername())) {
+                        throw new BadRequestException("Username is already taken");
+                    }
+                    if (userRepository.existsByEmail(userRequest.getEmail())) {
+                        throw new BadRequestException("Email is already in use");
+                    }
+                    return userService.createUser(userRequest);
+                });
     }
 
     @GetMapping("/{id}")
+    @PreAuthorize("@authz.has(authentication, 'USER_READ')")
     public ResponseEntity<UserResponse> getUserById(@PathVariable Long id) {
         UserResponse response = userService.getUserById(id);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Listings are written straight from a projection stream as rows are read,
+     * instead of materializing a {@code List<UserResponse>}. Internal callers
+     * can ask for CBOR; everyone else gets JSON. {@code ?role=} narrows the
+     * listing through the tenant/role index.
+     */
     @GetMapping
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
-        List<UserResponse> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+    @PreAuthorize("@authz.has(authentication, 'USER_LIST')")
+    public void getAllUsers(@RequestParam(required = false) String role, HttpServletResponse response)
+            throws IOException {
+        writeUsers(response, MediaType.APPLICATION_JSON_VALUE, objectMapper, role);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_CBOR_VALUE)
+    @PreAuthorize("@authz.has(authentication, 'USER_LIST')")
+    public void getAllUsersAsCbor(@RequestParam(required = false) String role, HttpServletResponse response)
+            throws IOException {
+        writeUsers(response, MediaType.APPLICATION_CBOR_VALUE, cborHttpMessageConverter.getObjectMapper(), role);
+    }
+
+    private void writeUsers(HttpServletResponse response, String contentType, ObjectMapper mapper, String role)
+            throws IOException {
+        response.setContentType(contentType);
+        try (JsonGenerator generator = mapper.createGenerator(response.getOutputStream())) {
+            generator.writeStartArray();
+            Consumer<UserSummary> writer = user -> {
+                try {
+                    UserListWriter.writeUser(generator, user);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            };
+            if (role == null) {
+                userService.forEachUser(writer);
+            } else {
+                userService.forEachUser(role, writer);
+            }
+            generator.writeEndArray();
+        }
     }
 
     @PutMapping("/{id}")
+    @PreAuthorize("@authz.has(authentication, 'USER_UPDATE')")
     public ResponseEntity<UserResponse> updateUser(@PathVariable Long id,
             @Valid @RequestBody UserRequest userRequest) {
         User user = userRepository.findById(id)
@@ -73,11 +138,48 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping("/{id}")
+    @PreAuthorize("@authz.has(authentication, 'USER_UPDATE')")
+    public ResponseEntity<UserResponse> patchUser(@PathVariable Long id,
+            @Valid @RequestBody UserPatchRequest patchRequest) {
+        return ResponseEntity.ok(userService.patchUser(id, patchRequest));
+    }
+
+    /**
+     * Changes the role and/or email domain of many users at once. The body is
+     * a JSON object: {@code chunks} holds one progress entry per chunk,
+     * flushed as the chunks complete, and the closing {@code status} tells
+     * whether every chunk committed. The response status is sent before the
+     * first chunk, so a body without {@code status} means the run was cut off.
+     */
+    @PatchMapping("/bulk")
+    @PreAuthorize("@authz.has(authentication, 'USER_UPDATE')")
+    public void bulkUpdateUsers(@Valid @RequestBody BulkUserUpdateRequest request, HttpServletResponse response)
+            throws IOException {
+        if (request.getRole() == null && request.getEmailDomain() == null) {
+            throw new BadRequestException("Nothing to update: provide role and/or emailDomain");
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (JsonGenerator generator = objectMapper.createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("chunks");
+            BulkUserUpdater.Outcome outcome = bulkUserUpdater.apply(request, progress -> {
+                try {
+                    generator.writeObject(progress);
+                    generator.flush();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            generator.writeEndArray();
+            generator.writeStringField("status", outcome.name());
+            generator.writeEndObject();
+        }
+    }
+
     @DeleteMapping("/{id}")
+    @PreAuthorize("@authz.has(authentication, 'USER_DELETE')")
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User not found with id: " + id);
-        }
         userService.deleteUser(id);
         return ResponseEntity.noContent().build();
     }
@@ -0,0 +1,39 @@
+package com.usermanagement.usermanagementbe.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.usermanagement.usermanagementbe.repository.UserSummary;
+
+import java.io.IOException;
+
+/**
+ * Writes user listings field by field with a {@link JsonGenerator}. Each
+ * entry is the {@link UserSummary} projection (id, username, email and
+ * role), not the full {@code UserResponse}: version and login activity are
+ * only returned for a single user. Field names are encoded once, and no
+ * bean introspection or per-row response object is involved. Works for any
+ * Jackson backend, so JSON and CBOR listings share it.
+ */
+public final class UserListWriter {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString USERNAME = new SerializedString("username");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString ROLE = new SerializedString("role");
+
+    private UserListWriter() {
+    }
+
+    public static void writeUser(JsonGenerator generator, UserSummary user) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(ID);
+        generator.writeNumber(user.id());
+        generator.writeFieldName(USERNAME);
+        generator.writeString(user.username());
+        generator.writeFieldName(EMAIL);
+        generator.writeString(user.email());
+        generator.writeFieldName(ROLE);
+        generator.writeString(user.role());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,73 @@
+package com.usermanagement.usermanagementbe.dto;
+
+import java.time.Instant;
+
+public class AuditEventResponse {
+
+    private Long id;
+    private Instant occurredAt;
+    private String type;
+    private String actor;
+    private String subject;
+    private String detail;
+
+    public AuditEventResponse() {
+    }
+
+    public AuditEventResponse(Long id, Instant occurredAt, String type, String actor, String subject, String detail) {
+        this.id = id;
+        this.occurredAt = occurredAt;
+        this.type = type;
+        this.actor = actor;
+        this.subject = subject;
+        this.detail = detail;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getActor() {
+        return actor;
+    }
+
+    public void setActor(String actor) {
+        this.actor = actor;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public void setDetail(String detail) {
+        this.detail = detail;
+    }
+}
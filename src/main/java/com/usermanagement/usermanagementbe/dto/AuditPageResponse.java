@@ -0,0 +1,53 @@
+package com.usermanagement.usermanagementbe.dto;
+
+import java.util.List;
+
+public class AuditPageResponse {
+
+    private List<AuditEventResponse> events;
+    private int page;
+    private int size;
+    private boolean hasNext;
+
+    public AuditPageResponse() {
+    }
+
+    public AuditPageResponse(List<AuditEventResponse> events, int page, int size, boolean hasNext) {
+        this.events = events;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+
+    public List<AuditEventResponse> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<AuditEventResponse> events) {
+        this.events = events;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
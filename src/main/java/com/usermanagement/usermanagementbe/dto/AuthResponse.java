@@ -3,12 +3,16 @@ package com.usermanagement.usermanagementbe.dto;
 public class AuthResponse {
 
     private String token;
+    private String refreshToken;
     private String type = "Bearer";
     private Long id;
     private String username;
     private String email;
     private String role;
 
+    public AuthResponse() {
+    }
+
     public AuthResponse(String token, Long id, String username, String email, String role) {
         this.token = token;
         this.id = id;
@@ -17,6 +21,11 @@ public class AuthResponse {
         this.role = role;
     }
 
+    public AuthResponse(String token, String refreshToken, Long id, String username, String email, String role) {
+        this(token, id, username, email, role);
+        this.refreshToken = refreshToken;
+    }
+
     public String getToken() {
         return token;
     }
@@ -25,6 +34,14 @@ public class AuthResponse {
         this.token = token;
     }
 
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
     public String getType() {
         return type;
     }
@@ -0,0 +1,72 @@
+package com.usermanagement.usermanagementbe.dto;
+
+/**
+ * Reported after each chunk of a bulk update. {@code processed} and
+ * {@code changed} are running totals over the committed chunks; {@code changed}
+ * counts column updates, so a user whose role and email both changed counts
+ * twice. A {@link Status#FAILED} chunk was rolled back, carries {@code error}
+ * and is the last one: the chunks reported before it stay committed.
+ */
+public class BulkUpdateProgress {
+
+    public enum Status {
+        COMMITTED, FAILED
+    }
+
+    private int processed;
+    private int total;
+    private int changed;
+    private Status status;
+    private String error;
+
+    public BulkUpdateProgress() {
+    }
+
+    public BulkUpdateProgress(int processed, int total, int changed, Status status, String error) {
+        this.processed = processed;
+        this.total = total;
+        this.changed = changed;
+        this.status = status;
+        this.error = error;
+    }
+
+    public int getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(int processed) {
+        this.processed = processed;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getChanged() {
+        return changed;
+    }
+
+    public void setChanged(int changed) {
+        this.changed = changed;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,54 @@
+package com.usermanagement.usermanagementbe.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BulkUserUpdateRequest {
+
+    @NotEmpty(message = "At least one user id is required")
+    @Size(max = 10000, message = "At most 10000 users can be updated at once")
+    private List<Long> ids;
+
+    @Pattern(regexp = "^(ADMIN|USER)$", message = "Role must be ADMIN or USER")
+    private String role;
+
+    @Size(max = 190, message = "Email domain is too long")
+    @Pattern(regexp = "^[a-zA-Z0-9-]+(\\.[a-zA-Z0-9-]+)+$", message = "Email domain should be valid")
+    private String emailDomain;
+
+    public BulkUserUpdateRequest() {
+    }
+
+    public BulkUserUpdateRequest(List<Long> ids, String role, String emailDomain) {
+        this.ids = ids;
+        this.role = role;
+        this.emailDomain = emailDomain;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+
+    public String getEmailDomain() {
+        return emailDomain;
+    }
+
+    public void setEmailDomain(String emailDomain) {
+        this.emailDomain = emailDomain;
+    }
+}
@@ -0,0 +1,74 @@
+package com.usermanagement.usermanagementbe.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Body of {@code PATCH /api/users/{id}}. Every field is optional and null
+ * means "leave unchanged"; the rules for present fields match
+ * {@link UserRequest}. {@code version}, when given, must match the user's
+ * current version.
+ */
+public class UserPatchRequest {
+
+    @Size(min = 3, max = 50, message = "Username must be between 3 and 50 characters")
+    @Pattern(regexp = "^[a-zA-Z0-9._-]+$", message = "Username may contain letters, numbers, dot, underscore, hyphen")
+    private String username;
+
+    @Email(message = "Email should be valid")
+    @Pattern(regexp = "^\\S+$", message = "Email should be valid")
+    private String email;
+
+    @Size(min = 8, message = "Password must be at least 8 characters")
+    @Pattern(regexp = "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[\\W_]).+$", message = "Password must include upper, lower, number, and special character")
+    private String password;
+
+    @Pattern(regexp = "^(ADMIN|USER)$", message = "Role must be ADMIN or USER")
+    private String role;
+
+    private Long version;
+
+    public UserPatchRequest() {
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -34,6 +34,14 @@ public class UserRequest {
         this.role = role;
     }
 
+    /**
+     * What identifies this request for idempotency. The password is left
+     * out, so it never ends up in the stored digest.
+     */
+    public String fingerprint() {
+        return username + '\u0000' + email + '\u0000' + role;
+    }
+
     public String getUsername() {
         return username;
     }
@@ -1,11 +1,17 @@
 package com.usermanagement.usermanagementbe.dto;
 
+import java.time.Instant;
+
 public class UserResponse {
 
     private Long id;
     private String username;
     private String email;
     private String role;
+    // Send back in a PATCH to make it conditional on no one else having changed the user
+    private Long version;
+    private Instant lastLoginAt;
+    private Long loginCount;
 
     public UserResponse() {
     }
@@ -17,6 +23,11 @@ public class UserResponse {
         this.role = role;
     }
 
+    public UserResponse(Long id, String username, String email, String role, Long version) {
+        this(id, username, email, role);
+        this.version = version;
+    }
+
     public Long getId() {
         return id;
     }
@@ -48,4 +59,28 @@ public class UserResponse {
     public void setRole(String role) {
         this.role = role;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getLastLoginAt() {
+        return lastLoginAt;
+    }
+
+    public void setLastLoginAt(Instant lastLoginAt) {
+        this.lastLoginAt = lastLoginAt;
+    }
+
+    public Long getLoginCount() {
+        return loginCount;
+    }
+
+    public void setLoginCount(Long loginCount) {
+        this.loginCount = loginCount;
+    }
 }
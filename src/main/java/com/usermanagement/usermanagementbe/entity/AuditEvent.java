@@ -0,0 +1,67 @@
+package com.usermanagement.usermanagementbe.entity;
+
+import com.usermanagement.usermanagementbe.audit.AuditEventType;
+import jakarta.persistence.*;
+import org.hibernate.annotations.TenantId;
+
+import java.time.Instant;
+
+/**
+ * One row of the audit trail. Rows are inserted in batches over JDBC by
+ * {@code AuditLog}; the mapping is used to create the table and to read it.
+ */
+@Entity
+@Table(name = "audit_events", indexes = {
+        @Index(name = "idx_audit_events_tenant_occurred", columnList = "tenant_id, occurred_at")
+})
+public class AuditEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 63)
+    private String tenantId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private AuditEventType type;
+
+    private String actor;
+
+    private String subject;
+
+    private String detail;
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public AuditEventType getType() {
+        return type;
+    }
+
+    public String getActor() {
+        return actor;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+}
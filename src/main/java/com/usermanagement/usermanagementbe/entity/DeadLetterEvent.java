@@ -0,0 +1,88 @@
+package com.usermanagement.usermanagementbe.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "user_event_dead_letters")
+public class DeadLetterEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    private Long userId;
+
+    @Column(length = 63)
+    private String tenantId;
+
+    @Column(nullable = false)
+    private String handler;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+
+    @Column(nullable = false)
+    private Instant failedAt;
+
+    public DeadLetterEvent() {
+    }
+
+    public DeadLetterEvent(String eventType, Long userId, String tenantId, String handler, int attempts,
+                           String lastError, Instant occurredAt) {
+        this.eventType = eventType;
+        this.userId = userId;
+        this.tenantId = tenantId;
+        this.handler = handler;
+        this.attempts = attempts;
+        this.lastError = lastError;
+        this.occurredAt = occurredAt;
+        this.failedAt = Instant.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public String getHandler() {
+        return handler;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public Instant getFailedAt() {
+        return failedAt;
+    }
+}
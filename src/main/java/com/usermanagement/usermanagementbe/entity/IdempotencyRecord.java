@@ -0,0 +1,88 @@
+package com.usermanagement.usermanagementbe.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * The outcome of a request sent with an {@code Idempotency-Key}. The id is
+ * a digest of tenant, endpoint, caller and key; a row without a status is a
+ * request still in progress. Rows are only kept until {@code expiresAt}.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_expires_at", columnList = "expiresAt")
+})
+public class IdempotencyRecord implements Persistable<String> {
+
+    @Id
+    @Column(length = 64)
+    private String id;
+
+    // Digest of the request fields that matter, to catch a key reused for another request
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    private Integer status;
+
+    @Column(length = 4000)
+    private String responseBody;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    // Claims must be inserts, so two replicas racing for a key collide on the primary key
+    @Transient
+    private boolean isNew;
+
+    public IdempotencyRecord() {
+    }
+
+    public IdempotencyRecord(String id, String fingerprint, Instant createdAt, Instant expiresAt) {
+        this.id = id;
+        this.fingerprint = fingerprint;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+        this.isNew = true;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public Integer getStatus() {
+        return status;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,30 @@
+package com.usermanagement.usermanagementbe.entity;
+
+import java.util.Collection;
+
+/**
+ * Fine-grained rights granted to roles through {@code role_permissions}.
+ * At runtime a role's permissions are folded into a {@code long}, one bit
+ * per constant, so a check is a single AND. The bit is the ordinal and is
+ * never stored, so constants may be reordered, but there can be at most 64.
+ */
+public enum Permission {
+    USER_READ,
+    USER_LIST,
+    USER_CREATE,
+    USER_UPDATE,
+    USER_DELETE,
+    AUDIT_READ;
+
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    public static long maskOf(Collection<Permission> permissions) {
+        long mask = 0;
+        for (Permission permission : permissions) {
+            mask |= permission.bit();
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,39 @@
+package com.usermanagement.usermanagementbe.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * A revoked access token, identified by its {@code jti}. Rows are only needed
+ * until the token would have expired anyway.
+ */
+@Entity
+@Table(name = "revoked_access_tokens", indexes = {
+        @Index(name = "idx_revoked_access_tokens_expires_at", columnList = "expiresAt")
+})
+public class RevokedToken {
+
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    public RevokedToken() {
+    }
+
+    public RevokedToken(String jti, Instant expiresAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getJti() {
+        return jti;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
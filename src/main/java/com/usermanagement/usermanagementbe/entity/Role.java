@@ -0,0 +1,50 @@
+package com.usermanagement.usermanagementbe.entity;
+
+import jakarta.persistence.*;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * A named set of permissions. {@code users.role} holds the role name; the
+ * grants live in the {@code role_permissions} join table, so new rules are
+ * rows rather than code. Roles are shared by all tenants.
+ */
+@Entity
+@Table(name = "roles")
+public class Role {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "role_permissions", joinColumns = @JoinColumn(name = "role_name"))
+    @Enumerated(EnumType.STRING)
+    @Column(name = "permission", nullable = false, length = 50)
+    private Set<Permission> permissions = EnumSet.noneOf(Permission.class);
+
+    public Role() {
+    }
+
+    public Role(String name, Set<Permission> permissions) {
+        this.name = name;
+        this.permissions = permissions;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Set<Permission> getPermissions() {
+        return permissions;
+    }
+
+    public void setPermissions(Set<Permission> permissions) {
+        this.permissions = permissions;
+    }
+}
@@ -0,0 +1,75 @@
+package com.usermanagement.usermanagementbe.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Asymmetric JWT signing key shared by all replicas. The private key is kept
+ * here, encrypted by {@code SigningKeyRing} under a key-encryption key that
+ * never reaches the database, so every replica signs with the same current
+ * key.
+ */
+@Entity
+@Table(name = "jwt_signing_keys")
+public class SigningKey {
+
+    @Id
+    @Column(length = 36)
+    private String kid;
+
+    @Column(nullable = false, length = 10)
+    private String algorithm;
+
+    @Column(nullable = false, length = 4096)
+    private String publicKey;
+
+    @Column(nullable = false, length = 4096)
+    private String privateKey;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    // Set once a newer key takes over signing; the key still verifies until
+    // every token it signed has expired
+    private Instant retiredAt;
+
+    public SigningKey() {
+    }
+
+    public SigningKey(String kid, String algorithm, String publicKey, String privateKey, Instant createdAt) {
+        this.kid = kid;
+        this.algorithm = algorithm;
+        this.publicKey = publicKey;
+        this.privateKey = privateKey;
+        this.createdAt = createdAt;
+    }
+
+    public String getKid() {
+        return kid;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public String getPublicKey() {
+        return publicKey;
+    }
+
+    public String getPrivateKey() {
+        return privateKey;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getRetiredAt() {
+        return retiredAt;
+    }
+
+    public void setRetiredAt(Instant retiredAt) {
+        this.retiredAt = retiredAt;
+    }
+}
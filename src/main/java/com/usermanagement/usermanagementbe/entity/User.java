@@ -4,23 +4,56 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
-
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.TenantId;
+
+import java.time.Instant;
+
+/**
+ * An account, scoped to a tenant.
+ * <ul>
+ *   <li>{@code @SQLRestriction}: deleted users stay behind as tombstones
+ *   until {@code UserPurger} removes them, and every entity query skips them.</li>
+ *   <li>{@code @DynamicUpdate}: updates only list the columns that changed.</li>
+ * </ul>
+ */
 @Entity
-@Table(name = "users")
+@DynamicUpdate
+@SQLRestriction("deleted_at IS NULL")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_users_tenant_username", columnNames = {"tenant_id", "username"}),
+        @UniqueConstraint(name = "uk_users_tenant_email", columnNames = {"tenant_id", "email"})
+}, indexes = {
+        // Serves the role-filtered listing, which is always tenant scoped
+        @Index(name = "idx_users_tenant_role", columnList = "tenant_id, role"),
+        @Index(name = "idx_users_deleted_at", columnList = "deleted_at")
+})
 public class User {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Ids come from a pooled sequence, so one round trip reserves a block of
+    // 50 and inserts can be batched (IDENTITY forces an immediate insert per row)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = User.ID_ALLOCATION_SIZE)
     private Long id;
 
+    // Filled in from TenantContext on insert; Hibernate adds it to every query
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 63)
+    private String tenantId;
+
     @NotBlank(message = "Username is required")
     @Size(min = 3, max = 50, message = "Username must be between 3 and 50 characters")
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String username;
 
     @NotBlank(message = "Email is required")
     @Email(message = "Email should be valid")
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String email;
 
     @NotBlank(message = "Password is required")
@@ -32,6 +65,23 @@ public class User {
     @Column(nullable = false)
     private String role;
 
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
+    // Optimistic lock; the default lets the column be added to a populated table
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    // Maintained by LoginActivityTracker's batched updates, never through the entity
+    @Column(name = "last_login_at", insertable = false, updatable = false)
+    private Instant lastLoginAt;
+
+    @ColumnDefault("0")
+    @Column(name = "login_count", nullable = false, insertable = false, updatable = false)
+    private long loginCount;
+
     public User() {
     }
 
@@ -50,6 +100,10 @@ public class User {
         this.id = id;
     }
 
+    public String getTenantId() {
+        return tenantId;
+    }
+
     public String getUsername() {
         return username;
     }
@@ -81,4 +135,24 @@ public class User {
     public void setRole(String role) {
         this.role = role;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getLastLoginAt() {
+        return lastLoginAt;
+    }
+
+    public long getLoginCount() {
+        return loginCount;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(Instant deletedAt) {
+        this.deletedAt = deletedAt;
+    }
 }
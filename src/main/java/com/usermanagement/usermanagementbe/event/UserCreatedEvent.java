@@ -0,0 +1,27 @@
+package com.usermanagement.usermanagementbe.event;
+
+public class UserCreatedEvent extends UserEvent {
+
+    private final String username;
+    private final String email;
+    private final String role;
+
+    public UserCreatedEvent(Long userId, String username, String email, String role) {
+        super(userId);
+        this.username = username;
+        this.email = email;
+        this.role = role;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getRole() {
+        return role;
+    }
+}
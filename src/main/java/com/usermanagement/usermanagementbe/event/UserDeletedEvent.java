@@ -0,0 +1,8 @@
+package com.usermanagement.usermanagementbe.event;
+
+public class UserDeletedEvent extends UserEvent {
+
+    public UserDeletedEvent(Long userId) {
+        super(userId);
+    }
+}
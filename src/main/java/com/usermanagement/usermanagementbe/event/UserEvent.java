@@ -0,0 +1,61 @@
+package com.usermanagement.usermanagementbe.event;
+
+import com.usermanagement.usermanagementbe.tenant.TenantContext;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+
+/**
+ * Base type for user lifecycle events. Events are published inside the
+ * mutating transaction and only dispatched to handlers once it commits.
+ */
+public abstract class UserEvent {
+
+    private final Long userId;
+    private final String tenantId;
+    private final Instant occurredAt;
+    private final String actor;
+
+    protected UserEvent(Long userId) {
+        this.userId = userId;
+        this.tenantId = TenantContext.getTenantId();
+        this.occurredAt = Instant.now();
+        this.actor = currentActor();
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    /**
+     * Username of whoever caused the change, or null for self-registration
+     * and background work.
+     */
+    public String getActor() {
+        return actor;
+    }
+
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{userId=" + userId + ", tenantId=" + tenantId
+                + ", occurredAt=" + occurredAt + "}";
+    }
+}
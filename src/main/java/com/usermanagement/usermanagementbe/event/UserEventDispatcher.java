@@ -0,0 +1,146 @@
+package com.usermanagement.usermanagementbe.event;
+
+import com.usermanagement.usermanagementbe.entity.DeadLetterEvent;
+import com.usermanagement.usermanagementbe.repository.DeadLetterEventRepository;
+import com.usermanagement.usermanagementbe.tenant.TenantContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans committed {@link UserEvent}s out to every {@link UserEventHandler} on
+ * virtual threads, so the request returns as soon as its transaction commits.
+ * Concurrency and backlog are both bounded; deliveries that keep failing (or
+ * that arrive while the backlog is full) end up in the dead-letter table.
+ */
+@Component
+public class UserEventDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(UserEventDispatcher.class);
+
+    @Autowired(required = false)
+    private List<UserEventHandler> handlers = List.of();
+
+    @Autowired
+    private DeadLetterEventRepository deadLetterEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${events.dispatch.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${events.dispatch.retry-backoff-ms:200}")
+    private long retryBackoffMs;
+
+    @Value("${events.dispatch.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("user-events-", 0).factory());
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Semaphore permits;
+
+    // Dead letters commit on their own. After commit, the finished transaction is
+    // still bound to the request thread, and a joining save would never be flushed
+    private TransactionTemplate deadLetterTransaction;
+
+    public UserEventDispatcher(@Value("${events.dispatch.concurrency:16}") int concurrency) {
+        this.permits = new Semaphore(concurrency);
+    }
+
+    @PostConstruct
+    public void init() {
+        deadLetterTransaction = new TransactionTemplate(transactionManager);
+        deadLetterTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserEvent(UserEvent event) {
+        for (UserEventHandler handler : handlers) {
+            if (pending.incrementAndGet() > queueCapacity) {
+                pending.decrementAndGet();
+                deadLetter(event, handler, 0, "Dispatch queue full");
+                continue;
+            }
+            executor.execute(() -> {
+                try {
+                    permits.acquire();
+                    try {
+                        deliver(event, handler);
+                    } finally {
+                        permits.release();
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    deadLetter(event, handler, 0, "Interrupted before delivery");
+                } finally {
+                    pending.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    private void deliver(UserEvent event, UserEventHandler handler) throws InterruptedException {
+        Exception lastError = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                TenantContext.setTenantId(event.getTenantId());
+                handler.handle(event);
+                return;
+            } catch (Exception ex) {
+                lastError = ex;
+                log.warn("Handler {} failed on attempt {}/{} for {}: {}",
+                        handler.getClass().getSimpleName(), attempt, maxAttempts, event, ex.getMessage());
+                if (attempt < maxAttempts) {
+                    // Linear backoff; sleeping only parks the virtual thread
+                    Thread.sleep(retryBackoffMs * attempt);
+                }
+            } finally {
+                TenantContext.clear();
+            }
+        }
+        deadLetter(event, handler, maxAttempts, String.valueOf(lastError));
+    }
+
+    private void deadLetter(UserEvent event, UserEventHandler handler, int attempts, String error) {
+        try {
+            String message = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+            deadLetterTransaction.executeWithoutResult(status -> deadLetterEventRepository.save(
+                    new DeadLetterEvent(event.getClass().getSimpleName(), event.getUserId(), event.getTenantId(),
+                            handler.getClass().getName(), attempts, message, event.getOccurredAt())));
+        } catch (Exception ex) {
+            log.error("Could not dead-letter {} for handler {}", event, handler.getClass().getName(), ex);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
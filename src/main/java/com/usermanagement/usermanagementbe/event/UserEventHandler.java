@@ -0,0 +1,11 @@
+package com.usermanagement.usermanagementbe.event;
+
+/**
+ * Side effect triggered by a committed user lifecycle change (welcome mail,
+ * audit, webhooks, cache invalidation...). Handlers run off the request thread
+ * and are retried on failure, so they should be idempotent.
+ */
+public interface UserEventHandler {
+
+    void handle(UserEvent event) throws Exception;
+}
@@ -0,0 +1,44 @@
+package com.usermanagement.usermanagementbe.event;
+
+public class UserUpdatedEvent extends UserEvent {
+
+    private final String username;
+    private final String email;
+    private final String role;
+    private final String previousRole;
+    private final boolean passwordChanged;
+
+    public UserUpdatedEvent(Long userId, String username, String email, String role, String previousRole,
+                            boolean passwordChanged) {
+        super(userId);
+        this.username = username;
+        this.email = email;
+        this.role = role;
+        this.previousRole = previousRole;
+        this.passwordChanged = passwordChanged;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getPreviousRole() {
+        return previousRole;
+    }
+
+    public boolean isPasswordChanged() {
+        return passwordChanged;
+    }
+
+    public boolean isRoleChanged() {
+        return previousRole != null && !previousRole.equals(role);
+    }
+}
@@ -0,0 +1,21 @@
+package com.usermanagement.usermanagementbe.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * An {@code Idempotency-Key} that cannot be honoured: still in use by a
+ * request in flight (409), or reused for a different request (422).
+ */
+public class IdempotencyKeyException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    public IdempotencyKeyException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,15 @@
+package com.usermanagement.usermanagementbe.exception;
+
+public class LoginLockedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginLockedException(long retryAfterSeconds) {
+        super("Too many failed login attempts. Please try again later.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,16 @@
+package com.usermanagement.usermanagementbe.repository;
+
+import com.usermanagement.usermanagementbe.audit.AuditEventType;
+import com.usermanagement.usermanagementbe.entity.AuditEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+// Slices rather than pages, so paging never runs a count over the whole trail
+@Repository
+public interface AuditEventRepository extends JpaRepository<AuditEvent, Long> {
+    Slice<AuditEvent> findAllByOrderByOccurredAtDescIdDesc(Pageable pageable);
+
+    Slice<AuditEvent> findByTypeOrderByOccurredAtDescIdDesc(AuditEventType type, Pageable pageable);
+}
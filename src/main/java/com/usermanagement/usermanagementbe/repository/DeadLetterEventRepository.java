@@ -0,0 +1,12 @@
+package com.usermanagement.usermanagementbe.repository;
+
+import com.usermanagement.usermanagementbe.entity.DeadLetterEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DeadLetterEventRepository extends JpaRepository<DeadLetterEvent, Long> {
+    List<DeadLetterEvent> findByUserId(Long userId);
+}
@@ -0,0 +1,36 @@
+package com.usermanagement.usermanagementbe.repository;
+
+import com.usermanagement.usermanagementbe.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    // A declared query runs outside the inherited read-only transaction, so it
+    // reads the primary: a lagging replica must not hide a completed request
+    @Query("SELECT r FROM IdempotencyRecord r WHERE r.id = :id")
+    Optional<IdempotencyRecord> findCurrent(@Param("id") String id);
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = :status, r.responseBody = :body WHERE r.id = :id")
+    int complete(@Param("id") String id, @Param("status") int status, @Param("body") String body);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.status IS NULL")
+    int release(@Param("id") String id);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.expiresAt <= :now")
+    int releaseExpired(@Param("id") String id, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,26 @@
+package com.usermanagement.usermanagementbe.repository;
+
+import com.usermanagement.usermanagementbe.entity.SigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface SigningKeyRepository extends JpaRepository<SigningKey, String> {
+
+    @Query("SELECT k FROM SigningKey k WHERE k.retiredAt IS NULL OR k.retiredAt > :since ORDER BY k.createdAt DESC")
+    List<SigningKey> findUsableSince(@Param("since") Instant since);
+
+    @Modifying
+    @Query("UPDATE SigningKey k SET k.retiredAt = :now WHERE k.retiredAt IS NULL AND k.kid <> :currentKid")
+    int retireAllExcept(@Param("currentKid") String currentKid, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM SigningKey k WHERE k.retiredAt < :before")
+    int deleteRetiredBefore(@Param("before") Instant before);
+}
@@ -1,13 +1,89 @@
 package com.usermanagement.usermanagementbe.repository;
 
 import com.usermanagement.usermanagementbe.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    // Lookups by primary key bypass Hibernate's @TenantId restriction, so the
+    // id-based methods go through JPQL, which is always tenant scoped
+    @Override
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findById(@Param("id") Long id);
+
+    @Override
+    @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.id = :id")
+    boolean existsById(@Param("id") Long id);
+
+    // Backs the streamed listing; rows are read as the response is written
+    @Query("SELECT new com.usermanagement.usermanagementbe.repository.UserSummary(u.id, u.username, u.email, u.role) "
+            + "FROM User u")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    Stream<UserSummary> streamAllSummaries();
+
+    @Query("SELECT new com.usermanagement.usermanagementbe.repository.UserSummary(u.id, u.username, u.email, u.role) "
+            + "FROM User u WHERE u.role = :role")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    Stream<UserSummary> streamSummariesByRole(@Param("role") String role);
+
+    // One UPDATE, no prior SELECT; 0 means there was no live user with that id
+    @Modifying
+    @Query("UPDATE User u SET u.deletedAt = :now, u.version = u.version + 1 "
+            + "WHERE u.id = :id AND u.deletedAt IS NULL")
+    int softDeleteById(@Param("id") Long id, @Param("now") Instant now);
+
+    // Tombstones still hold their username and email in the unique
+    // constraints, so they are removed right away when a name is reused
+    @Modifying
+    @Query(value = "DELETE FROM users WHERE tenant_id = :tenantId AND deleted_at IS NOT NULL "
+            + "AND (username = :username OR email = :email)", nativeQuery = true)
+    int deleteTombstones(@Param("tenantId") String tenantId, @Param("username") String username,
+                         @Param("email") String email);
+
+    // The bulk counterpart: tombstones holding an address that moving these
+    // users to the domain would produce
+    @Modifying
+    @Query(value = "DELETE FROM users WHERE tenant_id = :tenantId AND deleted_at IS NOT NULL AND email IN ("
+            + "SELECT CONCAT(SUBSTRING(u.email, 1, POSITION('@' IN u.email)), :domain) FROM users u "
+            + "WHERE u.tenant_id = :tenantId AND u.id IN :ids AND u.deleted_at IS NULL)", nativeQuery = true)
+    int deleteTombstonesForEmailDomain(@Param("tenantId") String tenantId, @Param("ids") Collection<Long> ids,
+                                       @Param("domain") String domain);
+
+    // Native, so it spans tenants; the inner LIMIT keeps each statement short
+    @Modifying
+    @Query(value = "DELETE FROM users WHERE id IN (SELECT id FROM users WHERE deleted_at < :cutoff "
+            + "ORDER BY id LIMIT :limit)", nativeQuery = true)
+    int purgeDeletedBefore(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
+
+    // Set-based updates behind the bulk endpoint; each touches only rows that actually change
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids AND u.role <> :role AND u.deletedAt IS NULL")
+    List<Long> findIdsWithOtherRole(@Param("ids") Collection<Long> ids, @Param("role") String role);
+
+    @Modifying
+    @Query("UPDATE User u SET u.role = :role, u.version = u.version + 1 "
+            + "WHERE u.id IN :ids AND u.deletedAt IS NULL")
+    int updateRole(@Param("ids") Collection<Long> ids, @Param("role") String role);
+
+    @Modifying
+    @Query("UPDATE User u SET u.email = CONCAT(SUBSTRING(u.email, 1, LOCATE('@', u.email)), :domain), "
+            + "u.version = u.version + 1 "
+            + "WHERE u.id IN :ids AND u.email NOT LIKE CONCAT('%@', :domain) AND u.deletedAt IS NULL")
+    int updateEmailDomain(@Param("ids") Collection<Long> ids, @Param("domain") String domain);
+
     Optional<User> findByUsername(String username);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
@@ -0,0 +1,8 @@
+package com.usermanagement.usermanagementbe.repository;
+
+/**
+ * Read-only projection of the columns a listing returns. Built straight from
+ * the result set, so no managed entity or password hash is loaded.
+ */
+public record UserSummary(Long id, String username, String email, String role) {
+}
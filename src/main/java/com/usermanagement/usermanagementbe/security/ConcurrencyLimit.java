@@ -0,0 +1,144 @@
+package com.usermanagement.usermanagementbe.security;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive cap on concurrent requests of one kind, in the style of a
+ * gradient limiter with an AIMD backoff.
+ * <ul>
+ *   <li>A slow moving average of response times is the baseline for how fast
+ *   the work is without queueing.</li>
+ *   <li>Each sample compares the baseline with the latest latency. While they
+ *   agree, the limit grows by about its square root. As latency rises beyond
+ *   {@code tolerance} times the baseline, the limit shrinks, by at most half.</li>
+ *   <li>A failed request multiplies the limit by {@code backoffRatio}.</li>
+ * </ul>
+ * Changes are smoothed, and the limit only grows while at least half of it
+ * is in use, so an idle instance does not drift to its maximum.
+ */
+public class ConcurrencyLimit implements ConcurrencyLimitMBean {
+
+    // Samples the baseline average spans; long enough that queueing shows up as a gap
+    private static final int BASELINE_WINDOW = 600;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double backoffRatio;
+    private final double smoothing;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile double limit;
+
+    // Guarded by this
+    private double baselineNanos;
+
+    public ConcurrencyLimit(String name, int initialLimit, int minLimit, int maxLimit,
+                            double tolerance, double backoffRatio, double smoothing) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limit " + name + " needs 1 <= min <= max");
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.backoffRatio = backoffRatio;
+        this.smoothing = smoothing;
+        this.limit = clamp(initialLimit);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Takes a slot if fewer than the limit are in use. Every successful call
+     * must be followed by exactly one {@link #release}.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Frees a slot and feeds the outcome into the limit.
+     *
+     * @param latencyNanos how long the request held the slot
+     * @param sample       whether the latency reflects the work, as opposed to
+     *                     a deliberate delay or an early rejection
+     * @param failed       whether the request failed on the server side
+     */
+    public void release(long latencyNanos, boolean sample, boolean failed) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (failed) {
+            synchronized (this) {
+                limit = clamp(limit * backoffRatio);
+            }
+        } else if (sample) {
+            onSample(latencyNanos, inFlightBefore);
+        }
+    }
+
+    private synchronized void onSample(long latencyNanos, int inFlightBefore) {
+        double latency = Math.max(1, latencyNanos);
+        if (baselineNanos == 0) {
+            baselineNanos = latency;
+        } else {
+            baselineNanos += (latency - baselineNanos) / BASELINE_WINDOW;
+        }
+        // Once load has eased, let the baseline come down instead of waiting out the window
+        if (baselineNanos / latency > 2) {
+            baselineNanos *= 0.95;
+        }
+        if (inFlightBefore < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * baselineNanos / latency));
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = clamp(limit * (1 - smoothing) + target * smoothing);
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+
+    @Override
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public long getAcceptedCount() {
+        return accepted.sum();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public synchronized double getBaselineLatencyMillis() {
+        return baselineNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
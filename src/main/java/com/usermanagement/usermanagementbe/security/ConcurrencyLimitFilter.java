@@ -0,0 +1,217 @@
+package com.usermanagement.usermanagementbe.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sheds load before it queues. Requests are split into three budgets, each
+ * with its own {@link ConcurrencyLimit}: logins (BCrypt bound), other
+ * writes, and reads, so a burst of logins cannot starve token-authenticated
+ * reads. A request over its budget's limit is answered at once with 503 and
+ * {@code Retry-After}, before any token parsing or database work.
+ * <p>
+ * Latency is only sampled from successful responses. Rejected logins are
+ * held back on purpose by {@link LoginAttemptGuard}, and client errors are
+ * mostly answered before the expensive part, so neither says anything about
+ * load. Health probes are never limited. Each budget is published over JMX.
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private static final String MBEAN_DOMAIN = "com.usermanagement.usermanagementbe";
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${concurrency.limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${concurrency.limit.retry-after-seconds:1}")
+    private int retryAfterSeconds;
+
+    private final ThrottledLog shedLog = new ThrottledLog(log, 10_000);
+
+    private ConcurrencyLimit login;
+    private ConcurrencyLimit write;
+    private ConcurrencyLimit read;
+
+    @PostConstruct
+    public void init() {
+        login = budget("login", 20, 2, 200);
+        write = budget("write", 50, 5, 500);
+        read = budget("read", 100, 10, 1000);
+        for (ConcurrencyLimit limit : List.of(login, write, read)) {
+            register(limit);
+        }
+    }
+
+    @PreDestroy
+    public void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ConcurrencyLimit limit : List.of(login, write, read)) {
+            try {
+                server.unregisterMBean(objectName(limit));
+            } catch (JMException ex) {
+                // Already replaced or removed
+            }
+        }
+    }
+
+    public ConcurrencyLimit getLimit(String name) {
+        return switch (name) {
+            case "login" -> login;
+            case "write" -> write;
+            case "read" -> read;
+            default -> throw new IllegalArgumentException("Unknown concurrency budget: " + name);
+        };
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || path(request).startsWith("/health/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ConcurrencyLimit limit = budgetFor(request);
+        if (!limit.tryAcquire()) {
+            shedLog.warn("Shedding load", limit.getName() + " budget at limit " + limit.getLimit());
+            reject(response);
+            return;
+        }
+
+        long started = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException ex) {
+            if (released.compareAndSet(false, true)) {
+                limit.release(System.nanoTime() - started, false, true);
+            }
+            throw ex;
+        }
+
+        if (request.isAsyncStarted()) {
+            // Login answers asynchronously; the slot is held until the response is written
+            request.getAsyncContext().addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    release(limit, released, started, response.getStatus());
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                    release(limit, released, started, HttpStatus.SERVICE_UNAVAILABLE.value());
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                    release(limit, released, started, HttpStatus.INTERNAL_SERVER_ERROR.value());
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+        } else {
+            release(limit, released, started, response.getStatus());
+        }
+    }
+
+    private static void release(ConcurrencyLimit limit, AtomicBoolean released, long started, int status) {
+        if (released.compareAndSet(false, true)) {
+            limit.release(System.nanoTime() - started, status < 400, status >= 500);
+        }
+    }
+
+    private ConcurrencyLimit budgetFor(HttpServletRequest request) {
+        String method = request.getMethod();
+        if ("POST".equals(method) && "/api/auth/login".equals(path(request))) {
+            return login;
+        }
+        if ("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)) {
+            return read;
+        }
+        return write;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now().toString());
+        body.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        body.put("error", "Service Unavailable");
+        body.put("message", "Server is busy, please retry shortly");
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private ConcurrencyLimit budget(String name, int initial, int min, int max) {
+        String prefix = "concurrency.limit." + name + ".";
+        return new ConcurrencyLimit(name,
+                environment.getProperty(prefix + "initial-limit", Integer.class, initial),
+                environment.getProperty(prefix + "min-limit", Integer.class, min),
+                environment.getProperty(prefix + "max-limit", Integer.class, max),
+                environment.getProperty("concurrency.limit.tolerance", Double.class, 2.0),
+                environment.getProperty("concurrency.limit.backoff-ratio", Double.class, 0.9),
+                environment.getProperty("concurrency.limit.smoothing", Double.class, 0.2));
+    }
+
+    private static void register(ConcurrencyLimit limit) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = objectName(limit);
+            // Another application context in the same JVM (tests) may hold the name
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(limit, name);
+        } catch (JMException ex) {
+            log.warn("Could not publish concurrency limit {} over JMX: {}", limit.getName(), ex.getMessage());
+        }
+    }
+
+    private static ObjectName objectName(ConcurrencyLimit limit) throws JMException {
+        return new ObjectName(MBEAN_DOMAIN + ":type=ConcurrencyLimit,name=" + limit.getName());
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
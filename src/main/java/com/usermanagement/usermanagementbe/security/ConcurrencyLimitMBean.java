@@ -0,0 +1,18 @@
+package com.usermanagement.usermanagementbe.security;
+
+/**
+ * JMX view of one {@link ConcurrencyLimit}, registered as
+ * {@code com.usermanagement.usermanagementbe:type=ConcurrencyLimit,name=<budget>}.
+ */
+public interface ConcurrencyLimitMBean {
+
+    int getLimit();
+
+    int getInFlight();
+
+    long getAcceptedCount();
+
+    long getRejectedCount();
+
+    double getBaselineLatencyMillis();
+}
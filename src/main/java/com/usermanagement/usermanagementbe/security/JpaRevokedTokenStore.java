@@ -0,0 +1,33 @@
+package com.usermanagement.usermanagementbe.security;
+
+import com.usermanagement.usermanagementbe.entity.RevokedToken;
+import com.usermanagement.usermanagementbe.repository.RevokedTokenRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Component
+public class JpaRevokedTokenStore implements RevokedTokenStore {
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Override
+    public void save(RevokedToken token) {
+        revokedTokenRepository.save(token);
+    }
+
+    @Override
+    public List<RevokedToken> findUnexpired(Instant now) {
+        return revokedTokenRepository.findByExpiresAtAfter(now);
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired(Instant now) {
+        return revokedTokenRepository.deleteExpired(now);
+    }
+}
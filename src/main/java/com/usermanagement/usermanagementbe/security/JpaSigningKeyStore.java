@@ -0,0 +1,35 @@
+package com.usermanagement.usermanagementbe.security;
+
+import com.usermanagement.usermanagementbe.entity.SigningKey;
+import com.usermanagement.usermanagementbe.repository.SigningKeyRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Component
+public class JpaSigningKeyStore implements SigningKeyStore {
+
+    @Autowired
+    private SigningKeyRepository signingKeyRepository;
+
+    @Override
+    public List<SigningKey> findUsableSince(Instant since) {
+        return signingKeyRepository.findUsableSince(since);
+    }
+
+    @Override
+    @Transactional
+    public void saveAndRetireOthers(SigningKey key, Instant now) {
+        signingKeyRepository.save(key);
+        signingKeyRepository.retireAllExcept(key.getKid(), now);
+    }
+
+    @Override
+    @Transactional
+    public int deleteRetiredBefore(Instant before) {
+        return signingKeyRepository.deleteRetiredBefore(before);
+    }
+}
@@ -1,57 +1,156 @@
 package com.usermanagement.usermanagementbe.security;
 
+import com.usermanagement.usermanagementbe.tenant.TenantContext;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Turns a bearer token into the request's authentication and tenant. This
+ * runs on every request, so the accepted path allocates little beyond the
+ * principal itself, and rejected tokens are counted and logged at a bounded
+ * rate instead of one stack trace each.
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    public static final String TENANT_HEADER = "X-Tenant-ID";
+
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+    private static final String REGISTER_PATH = "/api/auth/register";
+
     @Autowired
     private JwtTokenProvider tokenProvider;
 
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private TokenRevocationIndex revocationIndex;
+
+    private final LongAdder invalidTokens = new LongAdder();
+    private final LongAdder revokedTokens = new LongAdder();
+    private final LongAdder unknownUsers = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    @Value("${jwt.filter.log-interval-ms:10000}")
+    private long logIntervalMs;
+
+    private ThrottledLog rejectionLog;
+    private ThrottledLog failureLog;
+
+    @Override
+    protected void initFilterBean() {
+        rejectionLog = new ThrottledLog(log, logIntervalMs);
+        failureLog = new ThrottledLog(log, logIntervalMs);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        try {
-            String jwt = getJwtFromRequest(request);
+        String tenantHeader = request.getHeader(TENANT_HEADER);
+        if (tenantHeader != null && !TenantContext.isValid(tenantHeader)) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid tenant id");
+            return;
+        }
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromJWT(jwt);
+        // Login and register never carry a token worth checking; they only need the tenant
+        boolean authenticated = false;
+        if (!isCredentialEndpoint(request)) {
+            String jwt = getJwtFromRequest(request);
+            authenticated = jwt != null && authenticate(jwt);
+        }
+        if (!authenticated && tenantHeader != null) {
+            // Anonymous endpoints (login, register, refresh) pick the tenant explicitly
+            TenantContext.setTenantId(tenantHeader);
+        }
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+    /**
+     * Validates the token and, when it is good, sets the tenant and the
+     * authentication. Returns false for any token that does not authenticate.
+     */
+    private boolean authenticate(String jwt) {
+        try {
+            Claims claims = tokenProvider.parseAndValidate(jwt);
+            if (claims == null) {
+                invalidTokens.increment();
+                rejectionLog.warn("Rejected JWT", "invalid signature, malformed or expired");
+                return false;
+            }
+            if (revocationIndex.isRevoked(claims.getId())) {
+                revokedTokens.increment();
+                return false;
             }
+            // The signed claim always wins over the header
+            String tenantId = claims.get(JwtTokenProvider.TENANT_CLAIM, String.class);
+            TenantContext.setTenantId(tenantId != null ? tenantId : TenantContext.DEFAULT_TENANT);
+
+            UserDetailsImpl userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(claims.getSubject());
+            SecurityContextHolder.getContext().setAuthentication(new JwtUserAuthentication(userDetails));
+            return true;
         } catch (JwtException ex) {
-            logger.error("JWT token validation failed", ex);
+            invalidTokens.increment();
+            rejectionLog.warn("Rejected JWT", ex.getMessage());
         } catch (UsernameNotFoundException ex) {
-            logger.error("User not found during JWT authentication", ex);
+            unknownUsers.increment();
+            rejectionLog.warn("JWT subject not found", ex.getMessage());
         } catch (Exception ex) {
-            logger.error("Could not set user authentication in security context", ex);
+            failures.increment();
+            failureLog.error("Could not set user authentication in security context", ex);
         }
+        TenantContext.clear();
+        return false;
+    }
+
+    private static boolean isCredentialEndpoint(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        int offset = request.getContextPath().length();
+        return matches(uri, offset, LOGIN_PATH) || matches(uri, offset, REGISTER_PATH);
+    }
+
+    private static boolean matches(String uri, int offset, String path) {
+        return uri.length() == offset + path.length() && uri.startsWith(path, offset);
+    }
+
+    public long getInvalidTokenCount() {
+        return invalidTokens.sum();
+    }
+
+    public long getRevokedTokenCount() {
+        return revokedTokens.sum();
+    }
+
+    public long getUnknownUserCount() {
+        return unknownUsers.sum();
+    }
 
-        filterChain.doFilter(request, response);
+    public long getFailureCount() {
+        return failures.sum();
     }
 
     private String getJwtFromRequest(HttpServletRequest request) {
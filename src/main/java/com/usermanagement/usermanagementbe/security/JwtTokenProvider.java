@@ -1,71 +1,90 @@
 package com.usermanagement.usermanagementbe.security;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import com.usermanagement.usermanagementbe.tenant.TenantContext;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
+@ImportRuntimeHints(JwtRuntimeHints.class)
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    public static final String TENANT_CLAIM = "tid";
+
+    @Autowired
+    private SigningKeyRing keyRing;
 
     @Value("${jwt.expiration}")
     private long jwtExpirationMs;
 
+    // Thread-safe and immutable; the key ring resolves the verification key by kid
+    private JwtParser parser;
+
     @PostConstruct
-    public void validateSecretKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-        if (keyBytes.length < 32) {
-            throw new IllegalStateException("JWT secret key must be at least 256 bits (32 bytes) long");
-        }
+    public void init() {
+        parser = Jwts.parser()
+                .keyLocator(keyRing)
+                .build();
     }
 
     public String generateToken(Authentication authentication) {
         UserDetailsImpl userPrincipal = (UserDetailsImpl) authentication.getPrincipal();
+        return generateToken(userPrincipal.getUsername());
+    }
 
+    public String generateToken(String username) {
+        SigningKeyRing.Signer signer = keyRing.currentSigner();
+        if (signer == null) {
+            throw new IllegalStateException("No active JWT signing key");
+        }
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
         return Jwts.builder()
-                .subject(userPrincipal.getUsername())
+                .header().keyId(signer.kid()).and()
+                .id(UUID.randomUUID().toString())
+                .subject(username)
+                .claim(TENANT_CLAIM, TenantContext.getTenantId())
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signer.key(), signer.algorithm())
                 .compact();
     }
 
+    /**
+     * Verifies the token and returns its claims in a single parse.
+     *
+     * @return the verified claims, or {@code null} if the token is malformed,
+     * expired or not signed by a key in the ring
+     */
+    public Claims parseAndValidate(String token) {
+        try {
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     public String getUsernameFromJWT(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return getClaimsFromJWT(token).getSubject();
+    }
 
-        return claims.getSubject();
+    public Claims getClaimsFromJWT(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    public boolean validateToken(String authToken) {
-        try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(authToken);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+    public long getExpirationMs() {
+        return jwtExpirationMs;
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public boolean validateToken(String authToken) {
+        return parseAndValidate(authToken) != null;
     }
 }
@@ -0,0 +1,38 @@
+package com.usermanagement.usermanagementbe.security;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * Authentication set by {@link JwtAuthenticationFilter} for a valid bearer
+ * token. Unlike {@code UsernamePasswordAuthenticationToken} it does not copy
+ * the authorities; it hands out the principal's shared per-role list.
+ */
+final class JwtUserAuthentication extends AbstractAuthenticationToken {
+
+    private final UserDetailsImpl principal;
+
+    JwtUserAuthentication(UserDetailsImpl principal) {
+        super(null);
+        this.principal = principal;
+        setAuthenticated(true);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Collection<GrantedAuthority> getAuthorities() {
+        return (Collection<GrantedAuthority>) principal.getAuthorities();
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return principal;
+    }
+}
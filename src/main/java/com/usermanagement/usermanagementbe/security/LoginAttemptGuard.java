@@ -0,0 +1,215 @@
+package com.usermanagement.usermanagementbe.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-username defense against password guessing and credential stuffing,
+ * consulted by the login endpoint before any BCrypt work.
+ * <ul>
+ *   <li>Failures are counted per tenant and username, whether or not the
+ *   user exists, so the counters reveal nothing about which names are real.</li>
+ *   <li>After {@code free-failures}, each failure is answered after a delay
+ *   that doubles up to {@code max-delay-ms}. The delay is scheduled, so it
+ *   holds no servlet thread.</li>
+ *   <li>At {@code lockout-threshold} failures the name is locked out for
+ *   {@code lockout-ms}. Logins for it are refused without checking the
+ *   password.</li>
+ *   <li>The last few rejected passwords per name are remembered as keyed
+ *   digests. Replaying one is rejected without hashing, and the answer is
+ *   padded to the usual hash time so it cannot be told apart by timing.</li>
+ * </ul>
+ * State is in memory per replica and bounded by {@code max-tracked}; names
+ * beyond that are not tracked until idle entries are purged.
+ */
+@Component
+public class LoginAttemptGuard {
+
+    public enum Verdict { ALLOWED, KNOWN_BAD, LOCKED }
+
+    private static final int REMEMBERED_PASSWORDS = 8;
+
+    // Initial guess for one BCrypt check at strength 10, replaced by measurements
+    private static final long INITIAL_HASH_NANOS = TimeUnit.MILLISECONDS.toNanos(80);
+
+    private static final class Failures {
+        int count;
+        long lastFailureMs;
+        long lockedUntilMs;
+        final long[] rejectedDigests = new long[REMEMBERED_PASSWORDS];
+        int nextDigest;
+    }
+
+    @Value("${security.login.free-failures:3}")
+    private int freeFailures;
+
+    @Value("${security.login.base-delay-ms:250}")
+    private long baseDelayMs;
+
+    @Value("${security.login.max-delay-ms:4000}")
+    private long maxDelayMs;
+
+    @Value("${security.login.lockout-threshold:10}")
+    private int lockoutThreshold;
+
+    @Value("${security.login.lockout-ms:900000}")
+    private long lockoutMs;
+
+    @Value("${security.login.failure-ttl-ms:900000}")
+    private long failureTtlMs;
+
+    @Value("${security.login.max-tracked:100000}")
+    private int maxTracked;
+
+    private final Map<String, Failures> failures = new ConcurrentHashMap<>();
+
+    // Rejected passwords are never stored in clear or as a plain hash; the key lives only in this process
+    private final SecretKeySpec digestKey;
+
+    private volatile long typicalHashNanos = INITIAL_HASH_NANOS;
+
+    public LoginAttemptGuard() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.digestKey = new SecretKeySpec(key, "HmacSHA256");
+    }
+
+    public Verdict check(String tenantId, String username, String password) {
+        Failures entry = failures.get(key(tenantId, username));
+        if (entry == null) {
+            return Verdict.ALLOWED;
+        }
+        long digest = digest(password);
+        synchronized (entry) {
+            if (entry.lockedUntilMs > System.currentTimeMillis()) {
+                return Verdict.LOCKED;
+            }
+            for (long rejected : entry.rejectedDigests) {
+                if (rejected == digest) {
+                    return Verdict.KNOWN_BAD;
+                }
+            }
+        }
+        return Verdict.ALLOWED;
+    }
+
+    /**
+     * Records a rejected password and returns how long to hold the answer, in
+     * milliseconds.
+     */
+    public long recordFailure(String tenantId, String username, String password) {
+        String key = key(tenantId, username);
+        Failures entry = failures.get(key);
+        if (entry == null) {
+            if (failures.size() >= maxTracked) {
+                return 0;
+            }
+            entry = failures.computeIfAbsent(key, k -> new Failures());
+        }
+        long digest = digest(password);
+        long now = System.currentTimeMillis();
+        synchronized (entry) {
+            if (now - entry.lastFailureMs > failureTtlMs) {
+                entry.count = 0;
+            }
+            entry.count++;
+            entry.lastFailureMs = now;
+            entry.rejectedDigests[entry.nextDigest] = digest;
+            entry.nextDigest = (entry.nextDigest + 1) % REMEMBERED_PASSWORDS;
+            if (entry.count >= lockoutThreshold) {
+                entry.lockedUntilMs = now + lockoutMs;
+            }
+            int penalized = entry.count - freeFailures;
+            if (penalized <= 0) {
+                return 0;
+            }
+            return Math.min(maxDelayMs, baseDelayMs << Math.min(penalized - 1, 20));
+        }
+    }
+
+    /**
+     * Forgets everything about a name: after a successful login, and after a
+     * password change, so a new password that was once a rejected guess is
+     * not refused.
+     */
+    public void reset(String tenantId, String username) {
+        failures.remove(key(tenantId, username));
+    }
+
+    public long retryAfterMs(String tenantId, String username) {
+        Failures entry = failures.get(key(tenantId, username));
+        if (entry == null) {
+            return 0;
+        }
+        synchronized (entry) {
+            return Math.max(0, entry.lockedUntilMs - System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Feeds the moving average of how long a password check takes, which is
+     * what answers that skip the check are padded to.
+     */
+    public void recordHashTime(long nanos) {
+        typicalHashNanos += (nanos - typicalHashNanos) / 8;
+    }
+
+    public long typicalHashMs() {
+        return TimeUnit.NANOSECONDS.toMillis(typicalHashNanos);
+    }
+
+    /**
+     * A future that fails with {@code ex} once {@code delayMs} has passed,
+     * without holding a thread in the meantime.
+     */
+    public static <T> CompletableFuture<T> failAfter(RuntimeException ex, long delayMs) {
+        if (delayMs <= 0) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS)
+                .execute(() -> future.completeExceptionally(ex));
+        return future;
+    }
+
+    public int trackedCount() {
+        return failures.size();
+    }
+
+    @Scheduled(fixedDelayString = "${security.login.purge-interval-ms:60000}")
+    public void purgeIdle() {
+        long now = System.currentTimeMillis();
+        failures.values().removeIf(entry -> {
+            synchronized (entry) {
+                return now - entry.lastFailureMs > failureTtlMs && entry.lockedUntilMs < now;
+            }
+        });
+    }
+
+    private static String key(String tenantId, String username) {
+        return tenantId + '\u0000' + username;
+    }
+
+    private long digest(String password) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(digestKey);
+            byte[] hash = mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(hash).getLong();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256 not available", ex);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.usermanagement.usermanagementbe.security;
+
+import com.usermanagement.usermanagementbe.event.UserEvent;
+import com.usermanagement.usermanagementbe.event.UserEventHandler;
+import com.usermanagement.usermanagementbe.event.UserUpdatedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Clears failed-login state when a password changes, so the new password
+ * is checked even if it matches a guess rejected earlier.
+ */
+@Component
+public class LoginAttemptResetHandler implements UserEventHandler {
+
+    @Autowired
+    private LoginAttemptGuard loginAttemptGuard;
+
+    @Override
+    public void handle(UserEvent event) {
+        if (event instanceof UserUpdatedEvent updated && updated.isPasswordChanged()) {
+            loginAttemptGuard.reset(updated.getTenantId(), updated.getUsername());
+        }
+    }
+}
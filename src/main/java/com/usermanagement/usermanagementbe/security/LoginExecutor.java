@@ -0,0 +1,115 @@
+package com.usermanagement.usermanagementbe.security;
+
+import com.usermanagement.usermanagementbe.exception.ServiceBusyException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs password verification off the servlet threads. BCrypt is CPU bound,
+ * so a small fixed pool of platform threads ({@code threads}, one per core
+ * by default) does it, fed by a bounded queue. The servlet thread only hands
+ * the login over and goes back to the container.
+ * <ul>
+ *   <li>A login that finds the queue full fails at once.</li>
+ *   <li>A login not answered within {@code timeout-ms} fails, and if it is
+ *   still queued by then it is skipped rather than hashed for nobody.</li>
+ * </ul>
+ * Both answer 503 with {@code Retry-After}, so slow hashes back up into
+ * fast rejections instead of into the container's thread pool.
+ */
+@Component
+public class LoginExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    // Cancelled timeouts are removed at once, so only pending logins hold a timer entry
+    private final ScheduledThreadPoolExecutor timer;
+
+    private final long timeoutMs;
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder timedOut = new LongAdder();
+
+    public LoginExecutor(@Value("${security.login.executor.threads:0}") int threads,
+                         @Value("${security.login.executor.queue-capacity:256}") int queueCapacity,
+                         @Value("${security.login.executor.timeout-ms:5000}") long timeoutMs) {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("login-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timer = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().name("login-timeout").daemon().factory());
+        this.timer.setRemoveOnCancelPolicy(true);
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Runs {@code task} on the login pool. The returned future fails with
+     * {@link ServiceBusyException} if the pool is saturated or the task does
+     * not finish in time.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(task.get());
+                } catch (Throwable ex) {
+                    future.completeExceptionally(ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(
+                    new ServiceBusyException("Too many logins in progress. Please try again shortly.", 1));
+        }
+        ScheduledFuture<?> timeout = timer.schedule(() -> {
+            if (future.completeExceptionally(new ServiceBusyException(
+                    "Login took too long. Please try again shortly.", 1))) {
+                timedOut.increment();
+            }
+        }, timeoutMs, TimeUnit.MILLISECONDS);
+        future.whenComplete((result, ex) -> timeout.cancel(false));
+        return future;
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getTimedOutCount() {
+        return timedOut.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        timer.shutdownNow();
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.usermanagement.usermanagementbe.security;
 
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -57,7 +59,29 @@ public class LoginRateLimitFilter extends OncePerRequestFilter {
         }
 
         filterChain.doFilter(request, response);
-        if (response.getStatus() == 200) {
+        if (request.isAsyncStarted()) {
+            // Login answers asynchronously; the status is only known once it completes
+            request.getAsyncContext().addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    if (response.getStatus() == 200) {
+                        attempts.remove(key);
+                    }
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+        } else if (response.getStatus() == 200) {
             attempts.remove(key);
         }
     }
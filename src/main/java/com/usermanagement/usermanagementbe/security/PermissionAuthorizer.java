@@ -0,0 +1,21 @@
+package com.usermanagement.usermanagementbe.security;
+
+import com.usermanagement.usermanagementbe.entity.Permission;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Target of {@code @PreAuthorize("@authz.has(authentication, 'USER_DELETE')")}.
+ * Checks one bit of the principal's permission mask instead of scanning
+ * granted authorities. Spring parses each expression once; the permission
+ * name resolves through the enum's constant map.
+ */
+@Component("authz")
+public class PermissionAuthorizer {
+
+    public boolean has(Authentication authentication, String permission) {
+        return authentication != null
+                && authentication.getPrincipal() instanceof UserDetailsImpl user
+                && user.hasPermission(Permission.valueOf(permission));
+    }
+}
@@ -0,0 +1,19 @@
+package com.usermanagement.usermanagementbe.security;
+
+import com.usermanagement.usermanagementbe.entity.RevokedToken;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Persistence used by {@link TokenRevocationIndex}, so the index works on
+ * top of JPA here and on top of R2DBC in the reactive module.
+ */
+public interface RevokedTokenStore {
+
+    void save(RevokedToken token);
+
+    List<RevokedToken> findUnexpired(Instant now);
+
+    int deleteExpired(Instant now);
+}
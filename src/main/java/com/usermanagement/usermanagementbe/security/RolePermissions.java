@@ -0,0 +1,96 @@
+package com.usermanagement.usermanagementbe.security;
+
+import com.usermanagement.usermanagementbe.entity.Permission;
+import com.usermanagement.usermanagementbe.entity.Role;
+import com.usermanagement.usermanagementbe.repository.RoleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Permission bitsets per role name, read from {@code roles} and
+ * {@code role_permissions} and refreshed on a schedule. Principals take
+ * their mask from here when they are built, so resolving permissions costs
+ * one map lookup per request however many rules there are.
+ * <p>
+ * ADMIN and USER are created with their historical rights when the table
+ * is empty. The table is read in {@link #start()}, in phase 0, for the same
+ * reason as in {@link SigningKeyRing}. Phase 0 is ahead of the web server,
+ * so no request is ever authorized against an empty map.
+ */
+@Component
+public class RolePermissions implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(RolePermissions.class);
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private volatile Map<String, Long> masks = Map.of();
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        List<Role> roles = roleRepository.findAllWithPermissions();
+        if (roles.isEmpty()) {
+            roleRepository.saveAll(List.of(
+                    new Role("ADMIN", EnumSet.allOf(Permission.class)),
+                    new Role("USER", EnumSet.of(Permission.USER_READ))));
+            log.info("Created default roles ADMIN and USER");
+        }
+        // ADMIN holds every permission, including ones added after its row was created
+        for (Role role : roles) {
+            if (role.getName().equals("ADMIN") && !role.getPermissions().containsAll(EnumSet.allOf(Permission.class))) {
+                role.getPermissions().addAll(EnumSet.allOf(Permission.class));
+                roleRepository.save(role);
+                log.info("Granted new permissions to ADMIN");
+            }
+        }
+        reload();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Ahead of the web server, so no request is authorized against an empty table
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    public long maskFor(String role) {
+        Long mask = masks.get(role);
+        return mask != null ? mask : 0L;
+    }
+
+    @Scheduled(initialDelayString = "${security.roles.sync-interval-ms:60000}",
+            fixedDelayString = "${security.roles.sync-interval-ms:60000}")
+    public void reload() {
+        try {
+            Map<String, Long> next = new HashMap<>();
+            for (Role role : roleRepository.findAllWithPermissions()) {
+                next.put(role.getName(), Permission.maskOf(role.getPermissions()));
+            }
+            masks = Map.copyOf(next);
+        } catch (Exception ex) {
+            log.warn("Could not reload role permissions: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package com.usermanagement.usermanagementbe.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.usermanagement.usermanagementbe.entity.SigningKey;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Set of asymmetric JWT keys shared through {@code jwt_signing_keys}. The
+ * newest active key signs; every key that may still have unexpired tokens
+ * verifies, selected by the {@code kid} header. Keys are decoded once per
+ * sync into an immutable state object, so signing and verification never
+ * rebuild key material. The public half is published as a JWKS document.
+ * <p>
+ * Private keys are stored encrypted with AES-GCM under
+ * {@code jwt.signing.key-encryption-key} (base64, 16, 24 or 32 bytes), which
+ * comes from the environment rather than the database, with the key id as
+ * associated data. A key stored unencrypted by an earlier release still
+ * verifies but no longer signs, so it is rotated out on start.
+ * <p>
+ * Keys are loaded when the context starts rather than while beans are
+ * created, so a refresh-only run (AOT/CDS training) never needs a database.
+ */
+@Component
+public class SigningKeyRing extends LocatorAdapter<Key> implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(SigningKeyRing.class);
+
+    private static final long MIN_RELOAD_INTERVAL_MS = 1000;
+
+    private static final String ENCRYPTED_PREFIX = "v1:";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    record Signer(String kid, PrivateKey key, SignatureAlgorithm algorithm, Instant createdAt) {
+    }
+
+    // undecryptable: the newest active key is encrypted under a key we do not have
+    private record State(Signer signer, boolean undecryptable, Map<String, PublicKey> verificationKeys,
+                         byte[] jwks, String etag) {
+    }
+
+    @Autowired
+    private SigningKeyStore signingKeyStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${jwt.signing.algorithm:RS256}")
+    private String algorithm;
+
+    @Value("${jwt.signing.rotation-interval-ms:604800000}")
+    private long rotationIntervalMs;
+
+    @Value("${jwt.expiration}")
+    private long jwtExpirationMs;
+
+    @Value("${jwt.signing.key-encryption-key:}")
+    private String keyEncryptionKey;
+
+    private SecretKey keyEncryptionSecret;
+
+    private volatile State state;
+
+    private volatile long lastReloadMs;
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        init();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Ahead of the web server, so no request is served without a signing key
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    public void init() {
+        signatureAlgorithm(algorithm);
+        keyEncryptionSecret = keyEncryptionSecret(keyEncryptionKey);
+        reload();
+        if (state.signer() == null) {
+            rotateUnlessUndecryptable();
+        }
+    }
+
+    Signer currentSigner() {
+        return state.signer();
+    }
+
+    public byte[] getJwks() {
+        return state.jwks();
+    }
+
+    public String getJwksEtag() {
+        return state.etag();
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            throw new SignatureException("Token has no key id");
+        }
+        PublicKey key = state.verificationKeys().get(kid);
+        if (key == null && System.currentTimeMillis() - lastReloadMs > MIN_RELOAD_INTERVAL_MS) {
+            // Another replica may have rotated since our last sync
+            reload();
+            key = state.verificationKeys().get(kid);
+        }
+        if (key == null) {
+            throw new SignatureException("Unknown signing key id");
+        }
+        return key;
+    }
+
+    @Scheduled(initialDelayString = "${jwt.signing.sync-interval-ms:60000}",
+            fixedDelayString = "${jwt.signing.sync-interval-ms:60000}")
+    public void maintain() {
+        try {
+            reload();
+            Signer signer = state.signer();
+            if (signer == null || signer.createdAt().plusMillis(rotationIntervalMs).isBefore(Instant.now())) {
+                rotateUnlessUndecryptable();
+            }
+            signingKeyStore.deleteRetiredBefore(Instant.now().minusMillis(jwtExpirationMs));
+        } catch (Exception ex) {
+            log.warn("Signing key maintenance failed: {}", ex.getMessage());
+        }
+    }
+
+    public synchronized void rotate() {
+        SignatureAlgorithm alg = signatureAlgorithm(algorithm);
+        KeyPair keyPair = alg.keyPair().build();
+        Instant now = Instant.now();
+        String kid = UUID.randomUUID().toString();
+        SigningKey key = new SigningKey(kid, alg.getId(),
+                Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()),
+                encryptPrivateKey(kid, keyPair.getPrivate().getEncoded()),
+                now);
+
+        signingKeyStore.saveAndRetireOthers(key, now);
+        log.info("Rotated JWT signing key, new kid {} ({})", key.getKid(), alg.getId());
+        reload();
+    }
+
+    public synchronized void reload() {
+        Instant now = Instant.now();
+        List<SigningKey> rows = signingKeyStore.findUsableSince(now.minusMillis(jwtExpirationMs));
+
+        Signer signer = null;
+        boolean undecryptable = false;
+        boolean newestActive = true;
+        Map<String, PublicKey> verificationKeys = new LinkedHashMap<>();
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        for (SigningKey row : rows) {
+            try {
+                SignatureAlgorithm alg = signatureAlgorithm(row.getAlgorithm());
+                KeyFactory keyFactory = KeyFactory.getInstance(keyFamily(alg));
+                PublicKey publicKey = keyFactory.generatePublic(
+                        new X509EncodedKeySpec(Base64.getDecoder().decode(row.getPublicKey())));
+                verificationKeys.put(row.getKid(), publicKey);
+                jwks.add(toJwk(row.getKid(), alg, publicKey));
+                if (newestActive && row.getRetiredAt() == null) {
+                    newestActive = false;
+                    if (!row.getPrivateKey().startsWith(ENCRYPTED_PREFIX)) {
+                        log.warn("Signing key {} is stored unencrypted and will not sign", row.getKid());
+                    } else {
+                        try {
+                            PrivateKey privateKey = keyFactory.generatePrivate(
+                                    new PKCS8EncodedKeySpec(decryptPrivateKey(row.getKid(), row.getPrivateKey())));
+                            signer = new Signer(row.getKid(), privateKey, alg, row.getCreatedAt());
+                        } catch (GeneralSecurityException | IllegalArgumentException ex) {
+                            undecryptable = true;
+                            log.error("Cannot decrypt signing key {}: {}", row.getKid(), ex.getMessage());
+                        }
+                    }
+                }
+            } catch (GeneralSecurityException | IllegalArgumentException ex) {
+                log.error("Skipping unreadable signing key {}: {}", row.getKid(), ex.getMessage());
+            }
+        }
+
+        byte[] jwksJson;
+        try {
+            jwksJson = objectMapper.writeValueAsBytes(Map.of("keys", jwks));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize JWKS", ex);
+        }
+        state = new State(signer, undecryptable, Map.copyOf(verificationKeys), jwksJson, etag(jwksJson));
+        lastReloadMs = System.currentTimeMillis();
+    }
+
+    // Rotating away a key that other replicas can read would have them rotate
+    // back in turn; a mismatched key-encryption key is a configuration error
+    private void rotateUnlessUndecryptable() {
+        if (state.undecryptable()) {
+            throw new IllegalStateException(
+                    "The current signing key cannot be decrypted; check jwt.signing.key-encryption-key");
+        }
+        rotate();
+    }
+
+    private String encryptPrivateKey(String kid, byte[] privateKey) {
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            RANDOM.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, keyEncryptionSecret, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            byte[] encrypted = cipher.doFinal(privateKey);
+            byte[] stored = ByteBuffer.allocate(IV_LENGTH + encrypted.length).put(iv).put(encrypted).array();
+            return ENCRYPTED_PREFIX + Base64.getEncoder().encodeToString(stored);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Could not encrypt signing key", ex);
+        }
+    }
+
+    private byte[] decryptPrivateKey(String kid, String stored) throws GeneralSecurityException {
+        byte[] bytes = Base64.getDecoder().decode(stored.substring(ENCRYPTED_PREFIX.length()));
+        if (bytes.length <= IV_LENGTH) {
+            throw new IllegalArgumentException("Encrypted signing key is truncated");
+        }
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, keyEncryptionSecret, new GCMParameterSpec(TAG_BITS, bytes, 0, IV_LENGTH));
+        cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+        return cipher.doFinal(bytes, IV_LENGTH, bytes.length - IV_LENGTH);
+    }
+
+    private static SecretKey keyEncryptionSecret(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            throw new IllegalStateException("jwt.signing.key-encryption-key is not set");
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getDecoder().decode(encoded.trim());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalStateException("jwt.signing.key-encryption-key is not valid base64", ex);
+        }
+        if (bytes.length != 16 && bytes.length != 24 && bytes.length != 32) {
+            throw new IllegalStateException("jwt.signing.key-encryption-key must be 16, 24 or 32 bytes");
+        }
+        return new SecretKeySpec(bytes, "AES");
+    }
+
+    private static SignatureAlgorithm signatureAlgorithm(String id) {
+        return switch (id) {
+            case "RS256" -> Jwts.SIG.RS256;
+            case "ES256" -> Jwts.SIG.ES256;
+            default -> throw new IllegalStateException("Unsupported JWT signing algorithm: " + id);
+        };
+    }
+
+    private static String keyFamily(SignatureAlgorithm alg) {
+        return alg.getId().startsWith("ES") ? "EC" : "RSA";
+    }
+
+    private static Map<String, Object> toJwk(String kid, SignatureAlgorithm alg, PublicKey publicKey) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", alg.getId());
+        if (publicKey instanceof RSAPublicKey rsa) {
+            jwk.put("kty", "RSA");
+            jwk.put("n", base64Url(unsigned(rsa.getModulus(), 0)));
+            jwk.put("e", base64Url(unsigned(rsa.getPublicExponent(), 0)));
+        } else if (publicKey instanceof ECPublicKey ec) {
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", base64Url(unsigned(ec.getW().getAffineX(), 32)));
+            jwk.put("y", base64Url(unsigned(ec.getW().getAffineY(), 32)));
+        }
+        return jwk;
+    }
+
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (bytes.length < length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return bytes;
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 8) + "\"";
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.usermanagement.usermanagementbe.security;
+
+import com.usermanagement.usermanagementbe.entity.SigningKey;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Persistence used by {@link SigningKeyRing}, so the ring works on top of
+ * JPA here and on top of R2DBC in the reactive module.
+ */
+public interface SigningKeyStore {
+
+    /**
+     * Keys that are active or were retired after {@code since}, newest first.
+     */
+    List<SigningKey> findUsableSince(Instant since);
+
+    /**
+     * Stores the new key and retires every other active key, atomically.
+     */
+    void saveAndRetireOthers(SigningKey key, Instant now);
+
+    int deleteRetiredBefore(Instant before);
+}
@@ -0,0 +1,55 @@
+package com.usermanagement.usermanagementbe.security;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Emits at most one message per interval and counts the rest, so a flood of
+ * bad requests cannot turn into a flood of log lines.
+ */
+final class ThrottledLog {
+
+    private final Logger log;
+    private final long intervalNanos;
+    private final AtomicLong nextLogAt;
+    private final LongAdder suppressed = new LongAdder();
+
+    ThrottledLog(Logger log, long intervalMs) {
+        this.log = log;
+        this.intervalNanos = intervalMs * 1_000_000;
+        this.nextLogAt = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Logs a one-line warning without a stack trace.
+     */
+    void warn(String message, Object detail) {
+        long skipped = acquire();
+        if (skipped >= 0) {
+            log.warn("{}: {} ({} similar since last report)", message, detail, skipped);
+        }
+    }
+
+    /**
+     * Logs with the stack trace, for failures that are not expected at all.
+     */
+    void error(String message, Throwable ex) {
+        long skipped = acquire();
+        if (skipped >= 0) {
+            log.error("{} ({} similar since last report)", message, skipped, ex);
+        }
+    }
+
+    // Number of messages dropped since the last one, or -1 if this one is dropped too
+    private long acquire() {
+        long now = System.nanoTime();
+        long next = nextLogAt.get();
+        if (now - next < 0 || !nextLogAt.compareAndSet(next, now + intervalNanos)) {
+            suppressed.increment();
+            return -1;
+        }
+        return suppressed.sumThenReset();
+    }
+}
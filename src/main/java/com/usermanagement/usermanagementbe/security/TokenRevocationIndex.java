@@ -0,0 +1,92 @@
+package com.usermanagement.usermanagementbe.security;
+
+import com.usermanagement.usermanagementbe.entity.RevokedToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of revoked access-token ids, so the per-request check never
+ * touches the database. A Bloom filter answers the common "not revoked" case
+ * and the exact map confirms hits. The view is rebuilt from
+ * {@code revoked_access_tokens} on a schedule, which is how revocations made
+ * on other replicas become visible here.
+ */
+@Component
+public class TokenRevocationIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationIndex.class);
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private static final class Snapshot {
+        final BloomFilter filter;
+        final Map<String, Long> expiries;
+
+        Snapshot(int expectedSize) {
+            this.filter = new BloomFilter(Math.max(1024, expectedSize * 2), FALSE_POSITIVE_RATE);
+            this.expiries = new ConcurrentHashMap<>(Math.max(16, expectedSize));
+        }
+
+        void add(String jti, long expiresAtMs) {
+            expiries.put(jti, expiresAtMs);
+            filter.put(jti);
+        }
+    }
+
+    @Autowired
+    private RevokedTokenStore revokedTokenStore;
+
+    private volatile Snapshot snapshot = new Snapshot(0);
+
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        Snapshot current = snapshot;
+        return current.filter.mightContain(jti) && current.expiries.containsKey(jti);
+    }
+
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revokedTokenStore.save(new RevokedToken(jti, expiresAt));
+        snapshot.add(jti, expiresAt.toEpochMilli());
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}")
+    public void sync() {
+        try {
+            long now = System.currentTimeMillis();
+            var rows = revokedTokenStore.findUnexpired(Instant.ofEpochMilli(now));
+            Snapshot previous = snapshot;
+            Snapshot next = new Snapshot(rows.size());
+            rows.forEach(row -> next.add(row.getJti(), row.getExpiresAt().toEpochMilli()));
+            // Keep local revocations that raced with the query above
+            previous.expiries.forEach((jti, expiresAtMs) -> {
+                if (expiresAtMs > now) {
+                    next.add(jti, expiresAtMs);
+                }
+            });
+            snapshot = next;
+        } catch (Exception ex) {
+            log.warn("Could not sync token revocation index: {}", ex.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        revokedTokenStore.deleteExpired(Instant.now());
+    }
+
+    public int size() {
+        return snapshot.expiries.size();
+    }
+}
@@ -1,39 +1,56 @@
 package com.usermanagement.usermanagementbe.security;
 
+import com.usermanagement.usermanagementbe.entity.Permission;
 import com.usermanagement.usermanagementbe.entity.User;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class UserDetailsImpl implements UserDetails {
 
+    // One immutable authority list per role, shared by every principal with that role
+    private static final Map<String, List<GrantedAuthority>> ROLE_AUTHORITIES = new ConcurrentHashMap<>();
+
     private Long id;
     private String username;
     private String email;
     private String password;
     private Collection<? extends GrantedAuthority> authorities;
+    // Bitset of Permission.bit() values, resolved from the role when the principal is built
+    private long permissions;
 
     public UserDetailsImpl(Long id, String username, String email, String password,
                            Collection<? extends GrantedAuthority> authorities) {
+        this(id, username, email, password, authorities, 0L);
+    }
+
+    public UserDetailsImpl(Long id, String username, String email, String password,
+                           Collection<? extends GrantedAuthority> authorities, long permissions) {
         this.id = id;
         this.username = username;
         this.email = email;
         this.password = password;
         this.authorities = authorities;
+        this.permissions = permissions;
     }
 
-    public static UserDetailsImpl build(User user) {
-        GrantedAuthority authority = new SimpleGrantedAuthority(user.getRole());
-
+    public static UserDetailsImpl build(User user, long permissions) {
         return new UserDetailsImpl(
                 user.getId(),
                 user.getUsername(),
                 user.getEmail(),
                 user.getPassword(),
-                Collections.singletonList(authority));
+                authoritiesFor(user.getRole()),
+                permissions);
+    }
+
+    public static List<GrantedAuthority> authoritiesFor(String role) {
+        return ROLE_AUTHORITIES.computeIfAbsent(role, r -> List.of(new SimpleGrantedAuthority(r)));
     }
 
     @Override
@@ -41,6 +58,10 @@ public class UserDetailsImpl implements UserDetails {
         return authorities;
     }
 
+    public boolean hasPermission(Permission permission) {
+        return (permissions & permission.bit()) != 0;
+    }
+
     public Long getId() {
         return id;
     }
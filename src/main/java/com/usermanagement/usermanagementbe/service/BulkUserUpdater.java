@@ -0,0 +1,75 @@
+package com.usermanagement.usermanagementbe.service;
+
+import com.usermanagement.usermanagementbe.audit.AuditEventType;
+import com.usermanagement.usermanagementbe.audit.AuditLog;
+import com.usermanagement.usermanagementbe.dto.BulkUpdateProgress;
+import com.usermanagement.usermanagementbe.dto.BulkUserUpdateRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Splits a bulk update into chunks of {@code users.bulk.chunk-size} ids and
+ * commits each through {@link UserService#bulkUpdate} in its own
+ * transaction, so locks are held briefly and a failure only stops the
+ * remaining chunks. Every chunk is reported, committed or failed, and
+ * {@link #apply} tells whether the run completed.
+ * <p>
+ * Principals are not cached: the JWT filter loads the user on every
+ * request, so a new role applies from the next request after its chunk
+ * commits.
+ */
+@Component
+public class BulkUserUpdater {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkUserUpdater.class);
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AuditLog auditLog;
+
+    @Value("${users.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    public enum Outcome {
+        COMPLETED, ABORTED
+    }
+
+    public Outcome apply(BulkUserUpdateRequest request, Consumer<BulkUpdateProgress> progress) {
+        List<Long> ids = request.getIds().stream().distinct().toList();
+        String actor = SecurityContextHolder.getContext().getAuthentication().getName();
+        int changed = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            try {
+                int chunkChanged = userService.bulkUpdate(chunk, request.getRole(), request.getEmailDomain());
+                changed += chunkChanged;
+                auditLog.record(AuditEventType.USERS_BULK_UPDATED, actor,
+                        chunk.size() + " users from id " + chunk.get(0),
+                        "role=" + request.getRole() + ", emailDomain=" + request.getEmailDomain()
+                                + ", changed=" + chunkChanged);
+            } catch (DataIntegrityViolationException ex) {
+                progress.accept(new BulkUpdateProgress(from, ids.size(), changed,
+                        BulkUpdateProgress.Status.FAILED, "Email is already in use"));
+                return Outcome.ABORTED;
+            } catch (RuntimeException ex) {
+                log.error("Bulk update stopped after {} of {} users", from, ids.size(), ex);
+                progress.accept(new BulkUpdateProgress(from, ids.size(), changed,
+                        BulkUpdateProgress.Status.FAILED, "Bulk update failed"));
+                return Outcome.ABORTED;
+            }
+            progress.accept(new BulkUpdateProgress(from + chunk.size(), ids.size(), changed,
+                    BulkUpdateProgress.Status.COMMITTED, null));
+        }
+        return Outcome.COMPLETED;
+    }
+}
@@ -0,0 +1,195 @@
+package com.usermanagement.usermanagementbe.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.usermanagement.usermanagementbe.entity.IdempotencyRecord;
+import com.usermanagement.usermanagementbe.exception.BadRequestException;
+import com.usermanagement.usermanagementbe.exception.IdempotencyKeyException;
+import com.usermanagement.usermanagementbe.tenant.TenantContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Makes create requests safe to retry. The first request sent with a given
+ * {@code Idempotency-Key} runs and its response is stored; a retry with the
+ * same key gets that response back without running again, so there is no
+ * second hash, uniqueness check or insert. Keys are scoped by tenant,
+ * endpoint and caller.
+ * <p>
+ * Completed responses are kept in a bounded in-memory LRU in front of
+ * {@code idempotency_keys}, which every replica shares and which is purged
+ * after {@code idempotency.ttl-ms}. A key whose first request is still
+ * running is answered with 409; one reused for a different request with 422.
+ */
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private record Completed(String fingerprint, int status, String body, long expiresAtMs) {
+    }
+
+    @Autowired
+    private IdempotencyStore store;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${idempotency.ttl-ms:86400000}")
+    private long ttlMs;
+
+    // A claim older than this is taken to belong to a request that died
+    @Value("${idempotency.pending-timeout-ms:60000}")
+    private long pendingTimeoutMs;
+
+    @Value("${idempotency.cache-size:10000}")
+    private int cacheSize;
+
+    private final Map<String, Completed> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Completed> eldest) {
+            return size() > cacheSize;
+        }
+    };
+
+    /**
+     * Runs {@code action} once per key. {@code fingerprint} identifies the
+     * request and should leave out secrets such as passwords, because its
+     * unsalted digest is stored. Without a key, the action simply runs.
+     */
+    public <T> ResponseEntity<T> execute(String key, String scope, String fingerprint, HttpStatus status,
+                                         Class<T> type, Supplier<T> action) {
+        if (key == null) {
+            return ResponseEntity.status(status).body(action.get());
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException(HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        String id = sha256(TenantContext.getTenantId() + '\u0000' + scope + '\u0000' + caller() + '\u0000' + key);
+        String requestDigest = sha256(fingerprint);
+        long now = System.currentTimeMillis();
+
+        Completed completed = cached(id, now);
+        if (completed == null) {
+            Optional<IdempotencyRecord> existing = store.find(id);
+            if (existing.isPresent() && existing.get().getExpiresAt().toEpochMilli() <= now) {
+                // Past its TTL the key is free again, whatever the purge has not yet deleted
+                store.releaseExpired(id, Instant.ofEpochMilli(now));
+                existing = Optional.empty();
+            }
+            if (existing.isPresent()) {
+                IdempotencyRecord record = existing.get();
+                if (!record.getFingerprint().equals(requestDigest)) {
+                    throw reusedKey();
+                }
+                if (record.getStatus() != null) {
+                    completed = remember(id, new Completed(record.getFingerprint(), record.getStatus(),
+                            record.getResponseBody(), record.getExpiresAt().toEpochMilli()));
+                } else if (now - record.getCreatedAt().toEpochMilli() < pendingTimeoutMs) {
+                    throw new IdempotencyKeyException(HttpStatus.CONFLICT,
+                            "A request with this " + HEADER + " is still in progress");
+                } else {
+                    store.release(id);
+                }
+            }
+        }
+        if (completed != null) {
+            if (!completed.fingerprint().equals(requestDigest)) {
+                throw reusedKey();
+            }
+            return replay(completed, type);
+        }
+
+        Instant claimedAt = Instant.ofEpochMilli(now);
+        if (!store.claim(id, requestDigest, claimedAt, claimedAt.plusMillis(ttlMs))) {
+            throw new IdempotencyKeyException(HttpStatus.CONFLICT,
+                    "A request with this " + HEADER + " is still in progress");
+        }
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException ex) {
+            // Failures are not stored, so the client can correct and retry with the same key
+            store.release(id);
+            throw ex;
+        }
+        String body = toJson(result);
+        store.complete(id, status.value(), body);
+        remember(id, new Completed(requestDigest, status.value(), body, now + ttlMs));
+        return ResponseEntity.status(status).body(result);
+    }
+
+    private Completed cached(String id, long now) {
+        synchronized (cache) {
+            Completed completed = cache.get(id);
+            if (completed != null && completed.expiresAtMs() <= now) {
+                cache.remove(id);
+                return null;
+            }
+            return completed;
+        }
+    }
+
+    private Completed remember(String id, Completed completed) {
+        synchronized (cache) {
+            cache.put(id, completed);
+        }
+        return completed;
+    }
+
+    private <T> ResponseEntity<T> replay(Completed completed, Class<T> type) {
+        try {
+            return ResponseEntity.status(completed.status())
+                    .header(REPLAYED_HEADER, "true")
+                    .body(objectMapper.readValue(completed.body(), type));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Stored idempotent response is unreadable", ex);
+        }
+    }
+
+    private String toJson(Object result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not store idempotent response", ex);
+        }
+    }
+
+    private static IdempotencyKeyException reusedKey() {
+        return new IdempotencyKeyException(HttpStatus.UNPROCESSABLE_ENTITY,
+                HEADER + " was already used for a different request");
+    }
+
+    private static String caller() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "";
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.usermanagement.usermanagementbe.service;
+
+import com.usermanagement.usermanagementbe.entity.IdempotencyRecord;
+import com.usermanagement.usermanagementbe.repository.IdempotencyRecordRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * The {@code idempotency_keys} table. Each operation is its own short
+ * transaction, separate from the request being made idempotent.
+ */
+@Component
+public class IdempotencyStore {
+
+    @Autowired
+    private IdempotencyRecordRepository repository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Detached, so that a row released after this lookup does not stay behind in the
+    // request's persistence context (open-in-view) and collide with a new claim
+    public Optional<IdempotencyRecord> find(String id) {
+        Optional<IdempotencyRecord> record = repository.findCurrent(id);
+        record.ifPresent(entityManager::detach);
+        return record;
+    }
+
+    /**
+     * Inserts an in-progress row for {@code id}; false if another request
+     * holds it already.
+     */
+    public boolean claim(String id, String fingerprint, Instant now, Instant expiresAt) {
+        try {
+            repository.saveAndFlush(new IdempotencyRecord(id, fingerprint, now, expiresAt));
+            return true;
+        } catch (DataIntegrityViolationException ex) {
+            return false;
+        }
+    }
+
+    @Transactional
+    public void complete(String id, int status, String body) {
+        repository.complete(id, status, body);
+    }
+
+    @Transactional
+    public void release(String id) {
+        repository.release(id);
+    }
+
+    // Until the purge runs, an expired row would still block its key from being claimed again
+    @Transactional
+    public void releaseExpired(String id, Instant now) {
+        repository.releaseExpired(id, now);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        repository.deleteExpired(Instant.now());
+    }
+}
@@ -0,0 +1,109 @@
+package com.usermanagement.usermanagementbe.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Last-login time and login count per user, kept off the login path. A
+ * login only merges into an in-memory entry for the user; every
+ * {@code users.login-activity.flush-interval-ms} the entries are taken out
+ * and written as one JDBC batch of increments, in id order so concurrent
+ * flushes from several replicas lock rows in the same order. However many
+ * times a user logs in between flushes, their row is written once.
+ * <p>
+ * Activity not yet flushed is lost if the process dies; a failed batch is
+ * merged back and retried with the next flush. Like {@link UserPurger},
+ * the flush only reaches the default schema with {@code tenancy.mode=schema}.
+ */
+@Component
+public class LoginActivityTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginActivityTracker.class);
+
+    private static final String UPDATE = "UPDATE users SET login_count = login_count + ?, "
+            + "last_login_at = CASE WHEN last_login_at IS NULL OR last_login_at < ? THEN ? ELSE last_login_at END "
+            + "WHERE id = ?";
+
+    public record Activity(Instant lastLoginAt, long count) {
+
+        Activity plus(Activity other) {
+            Instant latest = other.lastLoginAt.isAfter(lastLoginAt) ? other.lastLoginAt : lastLoginAt;
+            return new Activity(latest, count + other.count);
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${users.login-activity.batch-size:500}")
+    private int batchSize;
+
+    private final Map<Long, Activity> pending = new ConcurrentHashMap<>();
+
+    public void recordLogin(Long userId) {
+        pending.merge(userId, new Activity(Instant.now(), 1), Activity::plus);
+    }
+
+    /**
+     * Logins of {@code userId} seen by this replica and not yet flushed, or
+     * null if there are none.
+     */
+    public Activity pendingFor(Long userId) {
+        return pending.get(userId);
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(initialDelayString = "${users.login-activity.flush-interval-ms:10000}",
+            fixedDelayString = "${users.login-activity.flush-interval-ms:10000}")
+    @PreDestroy
+    public synchronized void flush() {
+        List<Long> ids = new ArrayList<>(pending.keySet());
+        ids.sort(null);
+        List<Map.Entry<Long, Activity>> batch = new ArrayList<>(Math.min(ids.size(), batchSize));
+        for (Long id : ids) {
+            // Logins arriving after the removal start a new entry for the next flush
+            Activity activity = pending.remove(id);
+            if (activity != null) {
+                batch.add(Map.entry(id, activity));
+            }
+            if (batch.size() == batchSize) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<Map.Entry<Long, Activity>> batch) {
+        try {
+            jdbcTemplate.batchUpdate(UPDATE, batch, batch.size(), (statement, entry) -> {
+                Timestamp lastLoginAt = Timestamp.from(entry.getValue().lastLoginAt());
+                statement.setLong(1, entry.getValue().count());
+                statement.setTimestamp(2, lastLoginAt);
+                statement.setTimestamp(3, lastLoginAt);
+                statement.setLong(4, entry.getKey());
+            });
+        } catch (Exception ex) {
+            log.warn("Could not write login activity of {} users, will retry: {}", batch.size(), ex.getMessage());
+            batch.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), Activity::plus));
+        }
+    }
+}
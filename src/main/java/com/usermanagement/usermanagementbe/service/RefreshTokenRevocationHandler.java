@@ -0,0 +1,27 @@
+package com.usermanagement.usermanagementbe.service;
+
+import com.usermanagement.usermanagementbe.event.UserDeletedEvent;
+import com.usermanagement.usermanagementbe.event.UserEvent;
+import com.usermanagement.usermanagementbe.event.UserEventHandler;
+import com.usermanagement.usermanagementbe.event.UserUpdatedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops outstanding refresh tokens when a user is deleted or their role
+ * changes, so the next refresh has to go through a fresh login.
+ */
+@Component
+public class RefreshTokenRevocationHandler implements UserEventHandler {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Override
+    public void handle(UserEvent event) {
+        if (event instanceof UserDeletedEvent
+                || (event instanceof UserUpdatedEvent updated && updated.isRoleChanged())) {
+            refreshTokenService.revokeAllForUser(event.getUserId());
+        }
+    }
+}
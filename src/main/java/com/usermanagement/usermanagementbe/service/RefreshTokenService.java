@@ -0,0 +1,105 @@
+package com.usermanagement.usermanagementbe.service;
+
+import com.usermanagement.usermanagementbe.entity.RefreshToken;
+import com.usermanagement.usermanagementbe.exception.TokenRefreshException;
+import com.usermanagement.usermanagementbe.repository.RefreshTokenRepository;
+import com.usermanagement.usermanagementbe.tenant.TenantContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HexFormat;
+
+@Service
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${jwt.refresh-expiration}")
+    private long refreshExpirationMs;
+
+    /**
+     * Issues a new opaque refresh token for the user. Only its hash is stored.
+     */
+    @Transactional
+    public String issue(Long userId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(hash(rawToken), userId, TenantContext.getTenantId(),
+                Instant.now().plusMillis(refreshExpirationMs)));
+        return rawToken;
+    }
+
+    /**
+     * Consumes a refresh token and returns it so the caller can re-issue
+     * tokens for its user and tenant. Tokens are
+     * single use: presenting an already revoked token is treated as theft and
+     * revokes every refresh token of that user.
+     */
+    @Transactional(noRollbackFor = TokenRefreshException.class)
+    public RefreshToken consume(String rawToken) {
+        Instant now = Instant.now();
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new TokenRefreshException("Refresh token is invalid or expired"));
+
+        if (token.getRevokedAt() != null) {
+            refreshTokenRepository.revokeAllForUser(token.getUserId(), now);
+            throw new TokenRefreshException("Refresh token is invalid or expired");
+        }
+        if (!token.isActive(now)) {
+            throw new TokenRefreshException("Refresh token is invalid or expired");
+        }
+
+        token.setRevokedAt(now);
+        return token;
+    }
+
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .filter(token -> token.getRevokedAt() == null)
+                .ifPresent(token -> token.setRevokedAt(Instant.now()));
+    }
+
+    @Transactional
+    public int revokeAllForUser(Long userId) {
+        return refreshTokenRepository.revokeAllForUser(userId, Instant.now());
+    }
+
+    @Transactional
+    public int revokeAllForUsers(Collection<Long> userIds) {
+        return refreshTokenRepository.revokeAllForUsers(userIds, Instant.now());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        refreshTokenRepository.deleteExpired(Instant.now());
+    }
+
+    /**
+     * The stored form of a refresh token, shared with the reactive module.
+     */
+    public static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.usermanagement.usermanagementbe.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Removes soft-deleted users once they are older than {@code retention-ms}.
+ * Runs off-peak ({@code users.purge.cron}) in chunks of {@code batch-size},
+ * each in its own transaction, so no statement holds many row locks or a
+ * long transaction. A run stops after {@code max-batches} and the rest waits
+ * for the next one, leaving the scheduler free for other tasks.
+ * <p>
+ * The purge covers every tenant in the shared table. With
+ * {@code tenancy.mode=schema} it only reaches the default schema.
+ */
+@Component
+public class UserPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(UserPurger.class);
+
+    @Autowired
+    private UserService userService;
+
+    @Value("${users.purge.retention-ms:86400000}")
+    private long retentionMs;
+
+    @Value("${users.purge.batch-size:500}")
+    private int batchSize;
+
+    @Value("${users.purge.max-batches:200}")
+    private int maxBatches;
+
+    @Scheduled(cron = "${users.purge.cron:0 */10 1-5 * * *}")
+    public void purge() {
+        Instant cutoff = Instant.now().minusMillis(retentionMs);
+        long purged = 0;
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                int deleted = userService.purgeDeleted(cutoff, batchSize);
+                purged += deleted;
+                if (deleted < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception ex) {
+            log.warn("Purging deleted users failed: {}", ex.getMessage());
+        }
+        if (purged > 0) {
+            log.info("Purged {} deleted users", purged);
+        }
+    }
+}
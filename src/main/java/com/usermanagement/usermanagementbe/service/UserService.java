@@ -1,18 +1,29 @@
 package com.usermanagement.usermanagementbe.service;
 
+import com.usermanagement.usermanagementbe.dto.UserPatchRequest;
 import com.usermanagement.usermanagementbe.dto.UserRequest;
 import com.usermanagement.usermanagementbe.dto.UserResponse;
 import com.usermanagement.usermanagementbe.entity.User;
-
+import com.usermanagement.usermanagementbe.event.UserCreatedEvent;
+import com.usermanagement.usermanagementbe.event.UserDeletedEvent;
+import com.usermanagement.usermanagementbe.event.UserUpdatedEvent;
+import com.usermanagement.usermanagementbe.exception.BadRequestException;
 import com.usermanagement.usermanagementbe.exception.ResourceNotFoundException;
 import com.usermanagement.usermanagementbe.repository.UserRepository;
+import com.usermanagement.usermanagementbe.repository.UserSummary;
+import com.usermanagement.usermanagementbe.tenant.TenantContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class UserService {
@@ -23,6 +34,15 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private LoginActivityTracker loginActivityTracker;
+
     @Transactional
     public UserResponse createUser(UserRequest userRequest) {
         User user = new User();
@@ -31,45 +51,174 @@ public class UserService {
         user.setPassword(passwordEncoder.encode(userRequest.getPassword()));
         user.setRole(userRequest.getRole());
 
+        userRepository.deleteTombstones(TenantContext.getTenantId(), user.getUsername(), user.getEmail());
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserCreatedEvent(savedUser.getId(), savedUser.getUsername(),
+                savedUser.getEmail(), savedUser.getRole()));
         return mapToResponse(savedUser);
     }
 
+    @Transactional(readOnly = true)
     public UserResponse getUserById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
         return mapToResponse(user);
     }
 
-    public List<UserResponse> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    /**
+     * Hands every user to {@code consumer} while the result set is still
+     * open, so callers can write a listing without holding all of it.
+     */
+    @Transactional(readOnly = true)
+    public void forEachUser(Consumer<UserSummary> consumer) {
+        try (Stream<UserSummary> users = userRepository.streamAllSummaries()) {
+            users.forEach(consumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void forEachUser(String role, Consumer<UserSummary> consumer) {
+        try (Stream<UserSummary> users = userRepository.streamSummariesByRole(role)) {
+            users.forEach(consumer);
+        }
     }
 
     @Transactional
     public UserResponse updateUser(Long id, UserRequest userRequest) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        String previousRole = user.getRole();
+        if (!user.getUsername().equals(userRequest.getUsername()) || !user.getEmail().equals(userRequest.getEmail())) {
+            userRepository.deleteTombstones(TenantContext.getTenantId(), userRequest.getUsername(), userRequest.getEmail());
+        }
 
         user.setUsername(userRequest.getUsername());
         user.setEmail(userRequest.getEmail());
         // Only update password if a new one is provided and not blank
-        if (userRequest.getPassword() != null && !userRequest.getPassword().trim().isEmpty()) {
+        boolean passwordChanged = userRequest.getPassword() != null && !userRequest.getPassword().trim().isEmpty();
+        if (passwordChanged) {
             user.setPassword(passwordEncoder.encode(userRequest.getPassword()));
         }
         user.setRole(userRequest.getRole());
 
-        User updatedUser = userRepository.save(user);
+        // Flushed here so the response carries the new version
+        User updatedUser = userRepository.saveAndFlush(user);
+        eventPublisher.publishEvent(new UserUpdatedEvent(updatedUser.getId(), updatedUser.getUsername(),
+                updatedUser.getEmail(), updatedUser.getRole(), previousRole, passwordChanged));
         return mapToResponse(updatedUser);
     }
 
+    /**
+     * Applies only the fields present in {@code patch}. Uniqueness is checked
+     * only for a username or email that actually changes, the password is
+     * hashed only when one is given, and with {@code @DynamicUpdate} the
+     * UPDATE lists only the changed columns. The version check makes a
+     * concurrent change fail with a conflict instead of being overwritten.
+     */
+    @Transactional
+    public UserResponse patchUser(Long id, UserPatchRequest patch) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        if (patch.getVersion() != null && patch.getVersion() != user.getVersion()) {
+            throw new ObjectOptimisticLockingFailureException(User.class, id);
+        }
+        String previousRole = user.getRole();
+
+        boolean usernameChanged = patch.getUsername() != null && !patch.getUsername().equals(user.getUsername());
+        boolean emailChanged = patch.getEmail() != null && !patch.getEmail().equals(user.getEmail());
+        if (usernameChanged && userRepository.existsByUsername(patch.getUsername())) {
+            throw new BadRequestException("Username is already taken");
+        }
+        if (emailChanged && userRepository.existsByEmail(patch.getEmail())) {
+            throw new BadRequestException("Email is already in use");
+        }
+        if (usernameChanged || emailChanged) {
+            userRepository.deleteTombstones(TenantContext.getTenantId(),
+                    usernameChanged ? patch.getUsername() : null, emailChanged ? patch.getEmail() : null);
+        }
+
+        if (usernameChanged) {
+            user.setUsername(patch.getUsername());
+        }
+        if (emailChanged) {
+            user.setEmail(patch.getEmail());
+        }
+        boolean passwordChanged = patch.getPassword() != null;
+        if (passwordChanged) {
+            user.setPassword(passwordEncoder.encode(patch.getPassword()));
+        }
+        if (patch.getRole() != null) {
+            user.setRole(patch.getRole());
+        }
+
+        if (!usernameChanged && !emailChanged && !passwordChanged && user.getRole().equals(previousRole)) {
+            return mapToResponse(user);
+        }
+        userRepository.flush();
+        eventPublisher.publishEvent(new UserUpdatedEvent(user.getId(), user.getUsername(),
+                user.getEmail(), user.getRole(), previousRole, passwordChanged));
+        return mapToResponse(user);
+    }
+
+    /**
+     * Marks the user deleted with a single UPDATE; the row itself is removed
+     * later by {@link UserPurger}.
+     */
     @Transactional
     public void deleteUser(Long id) {
-        userRepository.deleteById(id);
+        if (userRepository.softDeleteById(id, Instant.now()) == 0) {
+            throw new ResourceNotFoundException("User not found with id: " + id);
+        }
+        eventPublisher.publishEvent(new UserDeletedEvent(id));
+    }
+
+    /**
+     * Applies one chunk of a bulk update with set-based statements and
+     * returns the number of column changes. Deleted users holding one of the
+     * new email addresses are purged first. Users whose role changes lose
+     * their refresh tokens, as with a single update; the per-user events are
+     * not published, so a large batch cannot flood the dispatcher.
+     */
+    @Transactional
+    public int bulkUpdate(Collection<Long> ids, String role, String emailDomain) {
+        int changed = 0;
+        if (role != null) {
+            List<Long> roleChanged = userRepository.findIdsWithOtherRole(ids, role);
+            if (!roleChanged.isEmpty()) {
+                changed += userRepository.updateRole(roleChanged, role);
+                refreshTokenService.revokeAllForUsers(roleChanged);
+            }
+        }
+        if (emailDomain != null) {
+            userRepository.deleteTombstonesForEmailDomain(TenantContext.getTenantId(), ids, emailDomain);
+            changed += userRepository.updateEmailDomain(ids, emailDomain);
+        }
+        return changed;
+    }
+
+    /**
+     * Hard-deletes up to {@code limit} users soft-deleted before
+     * {@code cutoff}, in its own short transaction.
+     */
+    @Transactional
+    public int purgeDeleted(Instant cutoff, int limit) {
+        return userRepository.purgeDeletedBefore(cutoff, limit);
     }
 
     private UserResponse mapToResponse(User user) {
-        return new UserResponse(user.getId(), user.getUsername(), user.getEmail(), user.getRole());
+        UserResponse response = new UserResponse(user.getId(), user.getUsername(), user.getEmail(), user.getRole(),
+                user.getVersion());
+        Instant lastLoginAt = user.getLastLoginAt();
+        long loginCount = user.getLoginCount();
+        // Logins on this replica that are not flushed yet
+        LoginActivityTracker.Activity pending = loginActivityTracker.pendingFor(user.getId());
+        if (pending != null) {
+            lastLoginAt = lastLoginAt == null || pending.lastLoginAt().isAfter(lastLoginAt)
+                    ? pending.lastLoginAt() : lastLoginAt;
+            loginCount += pending.count();
+        }
+        response.setLastLoginAt(lastLoginAt);
+        response.setLoginCount(loginCount);
+        return response;
     }
 }
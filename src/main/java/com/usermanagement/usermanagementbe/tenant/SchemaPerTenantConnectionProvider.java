@@ -0,0 +1,68 @@
+package com.usermanagement.usermanagementbe.tenant;
+
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Schema-per-tenant isolation: every connection handed to Hibernate is
+ * switched to the schema named after the tenant and switched back before it
+ * returns to the pool. Tenant schemas have to be provisioned up front since
+ * schema generation only runs against the default schema.
+ */
+public class SchemaPerTenantConnectionProvider implements MultiTenantConnectionProvider<String> {
+
+    private final DataSource dataSource;
+    private final String defaultSchema;
+
+    public SchemaPerTenantConnectionProvider(DataSource dataSource, String defaultSchema) {
+        this.dataSource = dataSource;
+        this.defaultSchema = defaultSchema;
+    }
+
+    @Override
+    public Connection getAnyConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    @Override
+    public void releaseAnyConnection(Connection connection) throws SQLException {
+        connection.close();
+    }
+
+    @Override
+    public Connection getConnection(String tenantIdentifier) throws SQLException {
+        Connection connection = getAnyConnection();
+        connection.setSchema(TenantContext.DEFAULT_TENANT.equals(tenantIdentifier) ? defaultSchema : tenantIdentifier);
+        return connection;
+    }
+
+    @Override
+    public void releaseConnection(String tenantIdentifier, Connection connection) throws SQLException {
+        try {
+            connection.setSchema(defaultSchema);
+        } finally {
+            releaseAnyConnection(connection);
+        }
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return unwrapType.isInstance(this);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (isUnwrappableAs(unwrapType)) {
+            return unwrapType.cast(this);
+        }
+        throw new IllegalArgumentException("Cannot unwrap to " + unwrapType);
+    }
+}
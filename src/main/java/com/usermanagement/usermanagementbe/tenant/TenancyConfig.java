@@ -0,0 +1,35 @@
+package com.usermanagement.usermanagementbe.tenant;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wires tenancy into Hibernate. In the default {@code discriminator} mode all
+ * tenants share tables and the {@code @TenantId} column scopes every query.
+ * In {@code schema} mode each tenant additionally gets its own schema.
+ */
+@Configuration
+public class TenancyConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer tenancyHibernateCustomizer(
+            TenantIdentifierResolver tenantIdentifierResolver,
+            DataSource dataSource,
+            @Value("${tenancy.mode:discriminator}") String mode,
+            @Value("${tenancy.default-schema:public}") String defaultSchema) {
+        return properties -> {
+            properties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, tenantIdentifierResolver);
+            if ("schema".equals(mode)) {
+                properties.put(AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER,
+                        new SchemaPerTenantConnectionProvider(dataSource, defaultSchema));
+            } else if (!"discriminator".equals(mode)) {
+                throw new IllegalStateException("Unsupported tenancy.mode: " + mode);
+            }
+        };
+    }
+}
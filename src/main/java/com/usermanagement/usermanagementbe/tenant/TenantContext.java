@@ -0,0 +1,42 @@
+package com.usermanagement.usermanagementbe.tenant;
+
+import java.util.regex.Pattern;
+
+/**
+ * Holds the tenant of the current request thread. Set by
+ * {@code JwtAuthenticationFilter} from the token's {@code tid} claim (or the
+ * {@code X-Tenant-ID} header on anonymous auth endpoints) and read by
+ * Hibernate to scope every query on tenant-aware entities.
+ */
+public final class TenantContext {
+
+    public static final String DEFAULT_TENANT = "default";
+
+    // Tenant ids double as schema names in schema-per-tenant mode
+    private static final Pattern VALID_TENANT = Pattern.compile("^[a-z0-9_]{1,63}$");
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    public static String getTenantId() {
+        String tenantId = CURRENT.get();
+        return tenantId != null ? tenantId : DEFAULT_TENANT;
+    }
+
+    public static void setTenantId(String tenantId) {
+        if (!isValid(tenantId)) {
+            throw new IllegalArgumentException("Invalid tenant id");
+        }
+        CURRENT.set(tenantId);
+    }
+
+    public static boolean isValid(String tenantId) {
+        return tenantId != null && VALID_TENANT.matcher(tenantId).matches();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,159 @@
+package com.usermanagement.usermanagementbe.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.usermanagement.usermanagementbe.dto.LoginRequest;
+import com.usermanagement.usermanagementbe.dto.UserRequest;
+import com.usermanagement.usermanagementbe.entity.User;
+import com.usermanagement.usermanagementbe.repository.AuditEventRepository;
+import com.usermanagement.usermanagementbe.repository.UserRepository;
+import com.usermanagement.usermanagementbe.security.LoginAttemptGuard;
+import com.usermanagement.usermanagementbe.tenant.TenantContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "audit.flush-interval-ms=50")
+@AutoConfigureMockMvc
+public class AuditLogIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuditEventRepository auditEventRepository;
+
+    @Autowired
+    private AuditLog auditLog;
+
+    @Autowired
+    private LoginAttemptGuard loginAttemptGuard;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    public void setup() {
+        auditLog.flush();
+        auditEventRepository.deleteAll();
+        userRepository.deleteAll();
+        userRepository.save(new User("auditadmin", "auditadmin@example.com", passwordEncoder.encode("admin123"), "ADMIN"));
+        userRepository.save(new User("auditee", "auditee@example.com", passwordEncoder.encode("user123"), "USER"));
+        loginAttemptGuard.reset(TenantContext.DEFAULT_TENANT, "auditee");
+    }
+
+    @Test
+    public void testLoginsAndUserChangesAreAudited() throws Exception {
+        performLogin(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("auditee", "wrong"))))
+                .andExpect(status().isUnauthorized());
+        String token = login("auditadmin", "admin123");
+
+        mockMvc.perform(post("/api/users")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UserRequest("audited", "audited@example.com", "StrongPass1!", "USER"))))
+                .andExpect(status().isCreated());
+
+        // User changes are audited by an event handler after the commit
+        awaitTrue(() -> auditEventRepository.count() >= 3);
+
+        mockMvc.perform(get("/api/audit")
+                        .header("Authorization", "Bearer " + token)
+                        .param("type", "USER_CREATED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events[0].actor").value("auditadmin"))
+                .andExpect(jsonPath("$.events[0].detail").value("audited as USER"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        mockMvc.perform(get("/api/audit")
+                        .header("Authorization", "Bearer " + token)
+                        .param("type", "LOGIN_FAILURE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events[0].subject").value("auditee"));
+
+        mockMvc.perform(get("/api/audit")
+                        .header("Authorization", "Bearer " + token)
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        mockMvc.perform(get("/api/audit")
+                        .header("Authorization", "Bearer " + token)
+                        .param("type", "NOT_A_TYPE"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testAuditTrailRequiresAuditPermission() throws Exception {
+        String token = login("auditee", "user123");
+
+        mockMvc.perform(get("/api/audit")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void testFullBufferDropsInsteadOfBlocking() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+
+        StringBuilder drained = new StringBuilder();
+        assertEquals(3, buffer.drain(drained::append, 3));
+        assertEquals("012", drained.toString());
+        assertTrue(buffer.offer(5));
+        assertEquals(2, buffer.size());
+    }
+
+    private String login(String username, String password) throws Exception {
+        MvcResult result = performLogin(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(username, password))))
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        return body.get("token").asText();
+    }
+
+    private ResultActions performLogin(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult pending = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(pending));
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Condition not met within 5s");
+            }
+            Thread.sleep(20);
+        }
+    }
+}
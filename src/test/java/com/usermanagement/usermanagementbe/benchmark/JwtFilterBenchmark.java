@@ -0,0 +1,200 @@
+package com.usermanagement.usermanagementbe.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.usermanagement.usermanagementbe.entity.Permission;
+import com.usermanagement.usermanagementbe.entity.SigningKey;
+import com.usermanagement.usermanagementbe.entity.User;
+import com.usermanagement.usermanagementbe.security.JwtAuthenticationFilter;
+import com.usermanagement.usermanagementbe.security.JwtTokenProvider;
+import com.usermanagement.usermanagementbe.security.SigningKeyRing;
+import com.usermanagement.usermanagementbe.security.SigningKeyStore;
+import com.usermanagement.usermanagementbe.security.TokenRevocationIndex;
+import com.usermanagement.usermanagementbe.security.UserDetailsImpl;
+import com.usermanagement.usermanagementbe.security.UserDetailsServiceImpl;
+import com.usermanagement.usermanagementbe.tenant.TenantContext;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of JwtAuthenticationFilter, with the user lookup stubbed
+ * out so only the filter's own work is measured.
+ * <ul>
+ *   <li>{@code previousPath}: what the filter used to do for a valid token,
+ *   with a details source, details, a copied authority list and a
+ *   {@code UsernamePasswordAuthenticationToken} per request</li>
+ *   <li>{@code validToken}: the current filter for the same token</li>
+ *   <li>{@code rejectedToken}: a token with a bad signature, counted and
+ *   logged at a bounded rate</li>
+ *   <li>{@code loginRequest}: a stale token sent to /api/auth/login, which
+ *   the filter no longer parses</li>
+ * </ul>
+ * Run with {@code mvn -Pbenchmark verify -Dbenchmark=JwtFilterBenchmark};
+ * compare gc.alloc.rate.norm across the methods.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtAuthenticationFilter filter;
+    private PreviousFilter previousFilter;
+    private JwtTokenProvider provider;
+    private TokenRevocationIndex revocationIndex;
+    private User user;
+    private MockHttpServletRequest validRequest;
+    private MockHttpServletRequest rejectedRequest;
+    private MockHttpServletRequest loginRequest;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Setup
+    public void setup() throws Exception {
+        // The ring generates its key on init and stores it encrypted here
+        List<SigningKey> rows = new ArrayList<>();
+        SigningKeyStore store = new SigningKeyStore() {
+            @Override
+            public List<SigningKey> findUsableSince(Instant since) {
+                return rows;
+            }
+
+            @Override
+            public void saveAndRetireOthers(SigningKey key, Instant now) {
+                rows.add(key);
+            }
+
+            @Override
+            public int deleteRetiredBefore(Instant before) {
+                return 0;
+            }
+        };
+        SigningKeyRing keyRing = new SigningKeyRing();
+        ReflectionTestUtils.setField(keyRing, "signingKeyStore", store);
+        ReflectionTestUtils.setField(keyRing, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(keyRing, "algorithm", "RS256");
+        ReflectionTestUtils.setField(keyRing, "jwtExpirationMs", 900000L);
+        ReflectionTestUtils.setField(keyRing, "keyEncryptionKey",
+                Base64.getEncoder().encodeToString(new byte[32]));
+        keyRing.init();
+
+        provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "keyRing", keyRing);
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", 900000L);
+        provider.init();
+
+        user = new User("benchmark-user", "bench@example.com", "{noop}unused", "USER");
+        user.setId(1L);
+        UserDetailsServiceImpl userDetailsService = new UserDetailsServiceImpl() {
+            @Override
+            public UserDetails loadUserByUsername(String username) {
+                return UserDetailsImpl.build(user, Permission.USER_READ.bit());
+            }
+        };
+        revocationIndex = new TokenRevocationIndex();
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "tokenProvider", provider);
+        ReflectionTestUtils.setField(filter, "userDetailsService", userDetailsService);
+        ReflectionTestUtils.setField(filter, "revocationIndex", revocationIndex);
+        ReflectionTestUtils.setField(filter, "logIntervalMs", 10000L);
+        filter.afterPropertiesSet();
+        previousFilter = new PreviousFilter();
+
+        String token = provider.generateToken(user.getUsername());
+        validRequest = request("/api/users/1", token);
+        rejectedRequest = request("/api/users/1", token.substring(0, token.length() - 4) + "AAAA");
+        loginRequest = request("/api/auth/login", token);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object previousPath() throws Exception {
+        previousFilter.doFilter(validRequest, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object validToken() throws Exception {
+        filter.doFilter(validRequest, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object rejectedToken() throws Exception {
+        filter.doFilter(rejectedRequest, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object loginRequest() throws Exception {
+        filter.doFilter(loginRequest, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    /**
+     * The valid-token path of the filter before it was reworked, kept here
+     * as the baseline.
+     */
+    private final class PreviousFilter extends OncePerRequestFilter {
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            String header = request.getHeader("Authorization");
+            Claims claims = provider.parseAndValidate(header.substring(7));
+            if (claims != null && !revocationIndex.isRevoked(claims.getId())) {
+                String tenantId = claims.get(JwtTokenProvider.TENANT_CLAIM, String.class);
+                TenantContext.setTenantId(tenantId != null ? tenantId : TenantContext.DEFAULT_TENANT);
+                List<GrantedAuthority> authorities =
+                        Collections.singletonList(new SimpleGrantedAuthority(user.getRole()));
+                // Stands in for the old loadUserByUsername(claims.getSubject())
+                UserDetailsImpl userDetails = new UserDetailsImpl(user.getId(), claims.getSubject(),
+                        user.getEmail(), user.getPassword(), authorities);
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                TenantContext.clear();
+            }
+        }
+    }
+
+    private static MockHttpServletRequest request(String uri, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,106 @@
+package com.usermanagement.usermanagementbe.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.usermanagement.usermanagementbe.entity.SigningKey;
+import com.usermanagement.usermanagementbe.security.JwtTokenProvider;
+import com.usermanagement.usermanagementbe.security.SigningKeyRing;
+import com.usermanagement.usermanagementbe.security.SigningKeyStore;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of turning a bearer token into claims.
+ * <ul>
+ *   <li>{@code rebuildKeyAndParserTwice}: the original filter path, which decoded
+ *   the key and built a parser in both validateToken and getUsernameFromJWT</li>
+ *   <li>{@code prebuiltParserTwice}: shared parser, but still validate + extract</li>
+ *   <li>{@code parseAndValidate}: shared parser, single verification</li>
+ * </ul>
+ * Run with {@code mvn -Pbenchmark verify -Dbenchmark=JwtParsingBenchmark}; the
+ * gc profiler reports gc.alloc.rate.norm (bytes allocated per call).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtParsingBenchmark {
+
+    private JwtTokenProvider provider;
+    private String encodedPublicKey;
+    private String token;
+
+    @Setup
+    public void setup() {
+        // The ring generates its key on init and stores it encrypted here
+        List<SigningKey> rows = new ArrayList<>();
+        SigningKeyStore store = new SigningKeyStore() {
+            @Override
+            public List<SigningKey> findUsableSince(Instant since) {
+                return rows;
+            }
+
+            @Override
+            public void saveAndRetireOthers(SigningKey key, Instant now) {
+                rows.add(key);
+            }
+
+            @Override
+            public int deleteRetiredBefore(Instant before) {
+                return 0;
+            }
+        };
+
+        SigningKeyRing keyRing = new SigningKeyRing();
+        ReflectionTestUtils.setField(keyRing, "signingKeyStore", store);
+        ReflectionTestUtils.setField(keyRing, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(keyRing, "algorithm", "RS256");
+        ReflectionTestUtils.setField(keyRing, "jwtExpirationMs", 900000L);
+        ReflectionTestUtils.setField(keyRing, "keyEncryptionKey",
+                Base64.getEncoder().encodeToString(new byte[32]));
+        keyRing.init();
+        encodedPublicKey = rows.get(0).getPublicKey();
+
+        provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "keyRing", keyRing);
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", 900000L);
+        provider.init();
+
+        token = provider.generateToken("benchmark-user");
+    }
+
+    @Benchmark
+    public String rebuildKeyAndParserTwice() throws Exception {
+        Jwts.parser().verifyWith(decodeKey()).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(decodeKey()).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String prebuiltParserTwice() {
+        provider.validateToken(token);
+        return provider.getUsernameFromJWT(token);
+    }
+
+    @Benchmark
+    public String parseAndValidate() {
+        Claims claims = provider.parseAndValidate(token);
+        return claims.getSubject();
+    }
+
+    private PublicKey decodeKey() throws Exception {
+        return KeyFactory.getInstance("RSA").generatePublic(
+                new X509EncodedKeySpec(Base64.getDecoder().decode(encodedPublicKey)));
+    }
+}
@@ -0,0 +1,80 @@
+package com.usermanagement.usermanagementbe.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.usermanagement.usermanagementbe.controller.UserListWriter;
+import com.usermanagement.usermanagementbe.dto.UserResponse;
+import com.usermanagement.usermanagementbe.repository.UserSummary;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-row cost of writing the {@code GET /api/users} JSON body.
+ * <ul>
+ *   <li>{@code beanList}: the previous path, mapping each row to a
+ *   {@code UserResponse}, collecting a list and serializing it through
+ *   Jackson's bean serializer</li>
+ *   <li>{@code streamingGenerator}: {@link UserListWriter} writing each
+ *   projection row straight to a {@code JsonGenerator}</li>
+ * </ul>
+ * Scores and gc.alloc.rate.norm are per row. Output goes to a null stream so
+ * only serialization is measured. Run with
+ * {@code mvn -Pbenchmark verify -Dbenchmark=ListingSerializationBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+@OperationsPerInvocation(ListingSerializationBenchmark.ROWS)
+public class ListingSerializationBenchmark {
+
+    static final int ROWS = 1000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // Unlike OutputStream.nullOutputStream(), survives being closed by Jackson
+    private final OutputStream sink = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+    private List<UserSummary> rows;
+
+    @Setup
+    public void setup() {
+        rows = new ArrayList<>(ROWS);
+        for (long i = 1; i <= ROWS; i++) {
+            rows.add(new UserSummary(i, "user" + i, "user" + i + "@example.com", i % 10 == 0 ? "ADMIN" : "USER"));
+        }
+    }
+
+    @Benchmark
+    public void beanList() throws IOException {
+        List<UserResponse> users = new ArrayList<>();
+        for (UserSummary row : rows) {
+            users.add(new UserResponse(row.id(), row.username(), row.email(), row.role()));
+        }
+        objectMapper.writeValue(sink, users);
+    }
+
+    @Benchmark
+    public void streamingGenerator() throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(sink)) {
+            generator.writeStartArray();
+            for (UserSummary row : rows) {
+                UserListWriter.writeUser(generator, row);
+            }
+            generator.writeEndArray();
+        }
+    }
+}
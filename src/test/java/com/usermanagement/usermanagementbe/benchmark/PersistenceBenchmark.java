@@ -0,0 +1,111 @@
+package com.usermanagement.usermanagementbe.benchmark;
+
+import com.usermanagement.usermanagementbe.UserManagementBeApplication;
+import com.usermanagement.usermanagementbe.entity.User;
+import com.usermanagement.usermanagementbe.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Insert and read throughput of the persistence layer with the default
+ * configuration versus the {@code prod} profile.
+ * <ul>
+ *   <li>{@code default}: no JDBC batching, and the id sequence is fetched per
+ *   row, like the old identity column</li>
+ *   <li>{@code prod}: application-prod.properties, batched and ordered
+ *   inserts, pooled sequence, pool sized from the number of cores</li>
+ * </ul>
+ * SQL logging is off in both, since it only measures stdout. By default this
+ * runs on in-memory H2, which has no network round trips and so understates
+ * the gain. Point it at PostgreSQL with {@code -Dbench.jdbc.url=...}
+ * ({@code bench.jdbc.username}/{@code bench.jdbc.password}) for real numbers.
+ * Run with {@code mvn -Pbenchmark verify -Dbenchmark=PersistenceBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PersistenceBenchmark {
+
+    private static final int BATCH = 100;
+
+    @Param({"default", "prod"})
+    public String profile;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readTransaction;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        String url = System.getProperty("bench.jdbc.url",
+                "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE");
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", url);
+        properties.put("spring.datasource.username", System.getProperty("bench.jdbc.username", "sa"));
+        properties.put("spring.datasource.password", System.getProperty("bench.jdbc.password", ""));
+        properties.put("spring.datasource.driver-class-name", url.startsWith("jdbc:h2") ? "org.h2.Driver" : "org.postgresql.Driver");
+        properties.put("spring.jpa.properties.hibernate.dialect", url.startsWith("jdbc:h2")
+                ? "org.hibernate.dialect.H2Dialect" : "org.hibernate.dialect.PostgreSQLDialect");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("server.port", "0");
+        if ("default".equals(profile)) {
+            // Without a pooled optimizer every insert costs a nextval round trip
+            properties.put("spring.jpa.properties.hibernate.id.optimizer.pooled.preferred", "none");
+        }
+
+        context = new SpringApplicationBuilder(UserManagementBeApplication.class)
+                .profiles("default".equals(profile) ? new String[0] : new String[]{profile})
+                .properties(properties)
+                .run();
+        userRepository = context.getBean(UserRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+
+        insertBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /** One op = one transaction inserting {@value #BATCH} users. */
+    @Benchmark
+    public List<User> insertBatch() {
+        return writeTransaction.execute(status -> {
+            List<User> users = new ArrayList<>(BATCH);
+            for (int i = 0; i < BATCH; i++) {
+                long n = sequence.incrementAndGet();
+                users.add(new User("bench" + n, "bench" + n + "@example.com", "password", "USER"));
+            }
+            return userRepository.saveAll(users);
+        });
+    }
+
+    /** One op = one read-only transaction loading a page of {@value #BATCH} users. */
+    @Benchmark
+    @Threads(4)
+    public int readPage() {
+        return readTransaction.execute(status ->
+                userRepository.findAll(PageRequest.of(0, BATCH)).getNumberOfElements());
+    }
+}
@@ -0,0 +1,83 @@
+package com.usermanagement.usermanagementbe.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.usermanagement.usermanagementbe.dto.UserResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of writing a {@code GET /api/users} page as JSON versus CBOR.
+ * <ul>
+ *   <li>{@code writeList}: the whole list in one call, as the message
+ *   converter does for a {@code List<UserResponse>}</li>
+ *   <li>{@code writeIncrementally}: element by element through a
+ *   {@code SequenceWriter}, as the streamed CBOR listing does</li>
+ *   <li>{@code readList}: what the calling service pays to decode it</li>
+ * </ul>
+ * Bytes on the wire are printed once per fork. Run with
+ * {@code mvn -Pbenchmark verify -Dbenchmark=WireFormatBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    @Param({"1000"})
+    public int users;
+
+    private List<UserResponse> page;
+    private ObjectMapper mapper;
+    private ObjectWriter listWriter;
+    private ObjectWriter elementWriter;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() throws IOException {
+        page = new ArrayList<>(users);
+        for (long i = 1; i <= users; i++) {
+            page.add(new UserResponse(i, "user" + i, "user" + i + "@example.com", i % 10 == 0 ? "ADMIN" : "USER"));
+        }
+        mapper = "cbor".equals(format) ? new CBORMapper() : new ObjectMapper();
+        listWriter = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, UserResponse.class));
+        elementWriter = mapper.writerFor(UserResponse.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        encoded = listWriter.writeValueAsBytes(page);
+        System.out.printf("%n%s: %d users = %d bytes (%.1f per user)%n",
+                format, users, encoded.length, (double) encoded.length / users);
+    }
+
+    @Benchmark
+    public byte[] writeList() throws IOException {
+        return listWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public int writeIncrementally() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(encoded.length);
+        try (SequenceWriter writer = elementWriter.writeValuesAsArray(out)) {
+            for (UserResponse user : page) {
+                writer.write(user);
+            }
+        }
+        return out.size();
+    }
+
+    @Benchmark
+    public UserResponse[] readList() throws IOException {
+        return mapper.readValue(encoded, UserResponse[].class);
+    }
+}
@@ -0,0 +1,139 @@
+package com.usermanagement.usermanagementbe.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.usermanagement.usermanagementbe.dto.LoginRequest;
+import com.usermanagement.usermanagementbe.dto.UserRequest;
+import com.usermanagement.usermanagementbe.repository.UserRepository;
+import com.usermanagement.usermanagementbe.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Two in-memory H2 databases stand in for the Postgres primary and replica.
+ * They deliberately hold different rows, which shows where each read went.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primarydb;DB_CLOSE_DELAY=-1",
+        "spring.datasource.replica.url=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+        "spring.datasource.replica.username=sa",
+        "spring.datasource.replica.password=",
+        "datasource.routing.read-your-writes-window-ms=60000"
+})
+@AutoConfigureMockMvc
+public class ReplicaRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replicadb;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        // Without the mock request the cleanup below is not attributed to any caller
+        RequestContextHolder.resetRequestAttributes();
+        userRepository.deleteAll();
+
+        List<String> schema = new JdbcTemplate(primaryDataSource).queryForList("SCRIPT NODATA", String.class);
+        try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = replica.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String ddl : schema) {
+                statement.execute(ddl);
+            }
+            statement.execute("INSERT INTO users (id, tenant_id, username, email, password, role) "
+                    + "VALUES (1000, 'default', 'replicaonly', 'replica@example.com', 'x', 'USER')");
+        }
+    }
+
+    @AfterEach
+    public void cleanup() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testReadOnlyTransactionsUseReplica() {
+        List<String> usernames = usernames();
+
+        assertEquals(List.of("replicaonly"), usernames);
+        assertEquals("replicaonly", userService.getUserById(1000L).getUsername());
+    }
+
+    @Test
+    public void testWriterReadsOwnWritesFromPrimary() {
+        authenticateAs("writer");
+        userService.createUser(new UserRequest("fresh", "fresh@example.com", "StrongPass1!", "USER"));
+
+        assertEquals(List.of("fresh"), usernames());
+
+        // Someone who did not write keeps reading from the replica
+        authenticateAs("reader");
+        assertEquals(List.of("replicaonly"), usernames());
+    }
+
+    @Test
+    public void testLoginRightAfterRegisterReadsThePrimary() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UserRequest("newcomer", "newcomer@example.com", "StrongPass1!", "USER"))))
+                .andExpect(status().isCreated());
+
+        // The replica has not seen the new user; the login pool thread must still know who registered
+        MvcResult pending = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("newcomer", "StrongPass1!"))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("newcomer"));
+    }
+
+    private static void authenticateAs(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    // The streamed listing, which is the read-only path behind GET /api/users
+    private List<String> usernames() {
+        List<String> usernames = new ArrayList<>();
+        userService.forEachUser(user -> usernames.add(user.username()));
+        return usernames;
+    }
+}
@@ -0,0 +1,392 @@
+package com.usermanagement.usermanagementbe.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.usermanagement.usermanagementbe.dto.LoginRequest;
+import com.usermanagement.usermanagementbe.dto.TokenRefreshRequest;
+import com.usermanagement.usermanagementbe.dto.UserRequest;
+import com.usermanagement.usermanagementbe.entity.SigningKey;
+import com.usermanagement.usermanagementbe.entity.User;
+import com.usermanagement.usermanagementbe.repository.RefreshTokenRepository;
+import com.usermanagement.usermanagementbe.repository.SigningKeyRepository;
+import com.usermanagement.usermanagementbe.repository.UserRepository;
+import com.usermanagement.usermanagementbe.security.ConcurrencyLimitFilter;
+import com.usermanagement.usermanagementbe.security.JwtAuthenticationFilter;
+import com.usermanagement.usermanagementbe.security.LoginAttemptGuard;
+import com.usermanagement.usermanagementbe.security.SigningKeyRing;
+import com.usermanagement.usermanagementbe.service.IdempotencyService;
+import com.usermanagement.usermanagementbe.tenant.TenantContext;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class AuthControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Autowired
+    private LoginAttemptGuard loginAttemptGuard;
+
+    @Autowired
+    private ConcurrencyLimitFilter concurrencyLimitFilter;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private SigningKeyRepository signingKeyRepository;
+
+    @Autowired
+    private SigningKeyRing keyRing;
+
+    @BeforeEach
+    public void setup() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+        userRepository.save(new User("user", "user@example.com", passwordEncoder.encode("user123"), "USER"));
+        loginAttemptGuard.reset(TenantContext.DEFAULT_TENANT, "user");
+        loginAttemptGuard.reset(TenantContext.DEFAULT_TENANT, "nobody");
+    }
+
+    @Test
+    public void testRefreshRotatesTokensAndRejectsReuse() throws Exception {
+        JsonNode login = login("user", "user123");
+        String refreshToken = login.get("refreshToken").asText();
+
+        MvcResult refreshResult = mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TokenRefreshRequest(refreshToken))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").exists())
+                .andExpect(jsonPath("$.username").value("user"))
+                .andReturn();
+        JsonNode refreshed = objectMapper.readTree(refreshResult.getResponse().getContentAsString());
+
+        mockMvc.perform(get("/api/auth/me")
+                        .header("Authorization", "Bearer " + refreshed.get("token").asText()))
+                .andExpect(status().isOk());
+
+        // Replaying the consumed token fails and burns the rotated one as well
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TokenRefreshRequest(refreshToken))))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new TokenRefreshRequest(refreshed.get("refreshToken").asText()))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testLogoutRevokesAccessAndRefreshToken() throws Exception {
+        JsonNode login = login("user", "user123");
+        String token = login.get("token").asText();
+        String refreshToken = login.get("refreshToken").asText();
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TokenRefreshRequest(refreshToken))))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/auth/me")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TokenRefreshRequest(refreshToken))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testJwksPublishesTheSigningKey() throws Exception {
+        String token = login("user", "user123").get("token").asText();
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+        String kid = objectMapper.readTree(header).get("kid").asText();
+
+        MvcResult jwksResult = mockMvc.perform(get("/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                .andExpect(jsonPath("$.keys[0].kid").value(kid))
+                .andExpect(jsonPath("$.keys[0].kty").value("EC"))
+                .andReturn();
+
+        mockMvc.perform(get("/.well-known/jwks.json")
+                        .header("If-None-Match", jwksResult.getResponse().getHeader("ETag")))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void testSigningKeysAreStoredEncrypted() throws Exception {
+        // Another test context may have recreated the schema under the cached ring
+        keyRing.rotate();
+        String token = login("user", "user123").get("token").asText();
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+        String kid = objectMapper.readTree(header).get("kid").asText();
+
+        SigningKey stored = signingKeyRepository.findById(kid).orElseThrow();
+        assertTrue(stored.getPrivateKey().startsWith("v1:"));
+        byte[] bytes = Base64.getDecoder().decode(stored.getPrivateKey().substring(3));
+        assertThrows(InvalidKeySpecException.class,
+                () -> KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(bytes)));
+
+        // A key stored in plaintext by an earlier release verifies but is rotated out rather than used
+        KeyPair keyPair = Jwts.SIG.ES256.keyPair().build();
+        SigningKey plaintext = new SigningKey(UUID.randomUUID().toString(), "ES256",
+                Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()),
+                Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()), Instant.now());
+        signingKeyRepository.save(plaintext);
+        keyRing.init();
+
+        String rotated = login("user", "user123").get("token").asText();
+        String rotatedHeader = new String(Base64.getUrlDecoder().decode(rotated.substring(0, rotated.indexOf('.'))));
+        String rotatedKid = objectMapper.readTree(rotatedHeader).get("kid").asText();
+        assertNotEquals(plaintext.getKid(), rotatedKid);
+        assertTrue(signingKeyRepository.findById(rotatedKid).orElseThrow().getPrivateKey().startsWith("v1:"));
+        assertNotNull(signingKeyRepository.findById(plaintext.getKid()).orElseThrow().getRetiredAt());
+    }
+
+    @Test
+    public void testRejectedTokensAreCountedAndSkippedOnLogin() throws Exception {
+        String token = login("user", "user123").get("token").asText();
+        String tampered = token.substring(0, token.length() - 4) + "AAAA";
+        long invalidBefore = jwtAuthenticationFilter.getInvalidTokenCount();
+
+        mockMvc.perform(get("/api/auth/me")
+                        .header("Authorization", "Bearer " + tampered))
+                .andExpect(status().isUnauthorized());
+        assertEquals(invalidBefore + 1, jwtAuthenticationFilter.getInvalidTokenCount());
+
+        // Login never looks at a stale Authorization header
+        performLogin(post("/api/auth/login")
+                        .header("Authorization", "Bearer " + tampered)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("user", "user123"))))
+                .andExpect(status().isOk());
+        assertEquals(invalidBefore + 1, jwtAuthenticationFilter.getInvalidTokenCount());
+    }
+
+    @Test
+    public void testRepeatedFailuresLockTheUsernameOut() throws Exception {
+        for (int attempt = 1; attempt <= 5; attempt++) {
+            performLogin(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new LoginRequest("user", "wrong" + attempt))))
+                    .andExpect(status().isUnauthorized());
+        }
+        // Replaying a rejected password is answered from memory
+        assertEquals(LoginAttemptGuard.Verdict.LOCKED,
+                loginAttemptGuard.check(TenantContext.DEFAULT_TENANT, "user", "wrong1"));
+
+        performLogin(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("user", "user123"))))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+
+        // Unknown names are counted the same way, so lockouts say nothing about which exist
+        for (int attempt = 1; attempt <= 5; attempt++) {
+            performLogin(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new LoginRequest("nobody", "guess" + attempt))))
+                    .andExpect(status().isUnauthorized());
+        }
+        performLogin(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("nobody", "guess6"))))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    public void testKnownBadPasswordSkipsTheHashAndSuccessResets() throws Exception {
+        performLogin(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("user", "wrong"))))
+                .andExpect(status().isUnauthorized());
+        assertEquals(LoginAttemptGuard.Verdict.KNOWN_BAD,
+                loginAttemptGuard.check(TenantContext.DEFAULT_TENANT, "user", "wrong"));
+
+        performLogin(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("user", "wrong"))))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Invalid username or password"));
+
+        login("user", "user123");
+        assertEquals(LoginAttemptGuard.Verdict.ALLOWED,
+                loginAttemptGuard.check(TenantContext.DEFAULT_TENANT, "user", "wrong"));
+    }
+
+    @Test
+    public void testLoginsDoNotHoldRequestThreadsWhileVerifying() throws Exception {
+        int logins = 12;
+        // Two threads stand in for a tiny servlet pool
+        ExecutorService requestThreads = Executors.newFixedThreadPool(2);
+        List<Future<MvcResult>> started = new ArrayList<>();
+        try {
+            for (int i = 0; i < logins; i++) {
+                started.add(requestThreads.submit(() -> mockMvc.perform(post("/api/auth/login")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new LoginRequest("user", "user123"))))
+                        .andExpect(request().asyncStarted())
+                        .andReturn()));
+            }
+            List<MvcResult> pending = new ArrayList<>();
+            for (Future<MvcResult> future : started) {
+                pending.add(future.get());
+            }
+
+            // Every login is in flight although only two request threads exist;
+            // a blocking login would cap this at two
+            assertEquals(logins, concurrencyLimitFilter.getLimit("login").getInFlight());
+
+            Set<String> tokens = new HashSet<>();
+            for (MvcResult result : pending) {
+                MvcResult completed = mockMvc.perform(asyncDispatch(result))
+                        .andExpect(status().isOk())
+                        .andReturn();
+                tokens.add(objectMapper.readTree(completed.getResponse().getContentAsString()).get("token").asText());
+            }
+            assertEquals(logins, tokens.size());
+            assertEquals(0, concurrencyLimitFilter.getLimit("login").getInFlight());
+        } finally {
+            requestThreads.shutdownNow();
+        }
+    }
+
+    private JsonNode login(String username, String password) throws Exception {
+        MvcResult loginResult = performLogin(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(username, password))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(loginResult.getResponse().getContentAsString());
+    }
+
+    // Login completes asynchronously, so the response comes from the async dispatch
+    private ResultActions performLogin(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult pending = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(pending));
+    }
+
+    @Test
+    public void testRegisterRetryWithIdempotencyKeyReplaysTheResponse() throws Exception {
+        String key = UUID.randomUUID().toString();
+        UserRequest request = new UserRequest("retrying", "retrying@example.com", "StrongPass1!", "USER");
+
+        MvcResult first = mockMvc.perform(post("/api/auth/register")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn();
+        long id = objectMapper.readTree(first.getResponse().getContentAsString()).get("id").asLong();
+
+        // The retry gets the original 201 instead of "Username is already taken"
+        mockMvc.perform(post("/api/auth/register")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(id))
+                .andExpect(jsonPath("$.username").value("retrying"));
+        assertEquals(2, userRepository.count());
+
+        UserRequest other = new UserRequest("someoneelse", "else@example.com", "StrongPass1!", "USER");
+        mockMvc.perform(post("/api/auth/register")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(other)))
+                .andExpect(status().isUnprocessableEntity());
+
+        // Without a key, a repeat is a new request again
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testExpiredIdempotencyKeyIsNotReplayed() throws Exception {
+        String key = UUID.randomUUID().toString();
+        long ttlMs = (long) ReflectionTestUtils.getField(idempotencyService, "ttlMs");
+        ReflectionTestUtils.setField(idempotencyService, "ttlMs", 100L);
+        try {
+            mockMvc.perform(post("/api/auth/register")
+                            .header("Idempotency-Key", key)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new UserRequest("expiring", "expiring@example.com", "StrongPass1!", "USER"))))
+                    .andExpect(status().isCreated());
+            Thread.sleep(200);
+
+            // The stored row outlives its TTL until the purge, but no longer counts
+            UserRequest other = new UserRequest("afterexpiry", "afterexpiry@example.com", "StrongPass1!", "USER");
+            mockMvc.perform(post("/api/auth/register")
+                            .header("Idempotency-Key", key)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(other)))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                    .andExpect(jsonPath("$.username").value("afterexpiry"));
+        } finally {
+            ReflectionTestUtils.setField(idempotencyService, "ttlMs", ttlMs);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.usermanagement.usermanagementbe.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class HealthControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    public void testReadyOnceStartedWarmedUpAndSeeded() throws Exception {
+        mockMvc.perform(get("/health/live"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+
+        mockMvc.perform(get("/health/ready"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.checks.readiness").value("ACCEPTING_TRAFFIC"))
+                .andExpect(jsonPath("$.checks.seeding").value("UP"))
+                .andExpect(jsonPath("$.checks.database").value("UP"));
+    }
+
+    @Test
+    public void testNotReadyOnceShutdownBegins() throws Exception {
+        // What Spring Boot publishes when the context starts closing
+        AvailabilityChangeEvent.publish(applicationContext, ReadinessState.REFUSING_TRAFFIC);
+        try {
+            mockMvc.perform(get("/health/ready"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.status").value("DOWN"))
+                    .andExpect(jsonPath("$.checks.readiness").value("REFUSING_TRAFFIC"));
+
+            // Still alive: draining must not get the process restarted
+            mockMvc.perform(get("/health/live"))
+                    .andExpect(status().isOk());
+        } finally {
+            AvailabilityChangeEvent.publish(applicationContext, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+    }
+}
@@ -1,10 +1,20 @@
 package com.usermanagement.usermanagementbe.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.usermanagement.usermanagementbe.dto.AuthResponse;
+import com.usermanagement.usermanagementbe.dto.BulkUserUpdateRequest;
 import com.usermanagement.usermanagementbe.dto.LoginRequest;
 import com.usermanagement.usermanagementbe.dto.UserRequest;
+import com.usermanagement.usermanagementbe.dto.UserResponse;
+import com.usermanagement.usermanagementbe.entity.Permission;
+import com.usermanagement.usermanagementbe.entity.Role;
 import com.usermanagement.usermanagementbe.entity.User;
+import com.usermanagement.usermanagementbe.repository.RoleRepository;
 import com.usermanagement.usermanagementbe.repository.UserRepository;
+import com.usermanagement.usermanagementbe.security.RolePermissions;
+import com.usermanagement.usermanagementbe.service.LoginActivityTracker;
+import com.usermanagement.usermanagementbe.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,7 +24,17 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -34,6 +54,18 @@ public class UserControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private RolePermissions rolePermissions;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private LoginActivityTracker loginActivityTracker;
+
     @BeforeEach
     public void setup() {
         userRepository.deleteAll();
@@ -53,14 +85,14 @@ public class UserControllerIntegrationTest {
 
         LoginRequest loginRequest = new LoginRequest("testuser", "StrongPass1!");
 
-        mockMvc.perform(post("/api/auth/login")
+        performLogin(post("/api/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.token").exists())
                 .andExpect(jsonPath("$.username").value("testuser"));
 
-        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+        MvcResult loginResult = performLogin(post("/api/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isOk())
@@ -81,7 +113,7 @@ public class UserControllerIntegrationTest {
         userRepository.save(admin);
 
         LoginRequest loginRequest = new LoginRequest("admin", "admin123");
-        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+        MvcResult loginResult = performLogin(post("/api/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isOk())
@@ -105,7 +137,7 @@ public class UserControllerIntegrationTest {
         userRepository.save(user);
 
         LoginRequest loginRequest = new LoginRequest("user", "user123");
-        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+        MvcResult loginResult = performLogin(post("/api/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isOk())
@@ -128,7 +160,7 @@ public class UserControllerIntegrationTest {
         User savedUser = userRepository.save(user);
 
         LoginRequest loginRequest = new LoginRequest("user", "user123");
-        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+        MvcResult loginResult = performLogin(post("/api/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isOk())
@@ -151,7 +183,7 @@ public class UserControllerIntegrationTest {
         User savedUser = userRepository.save(userToUpdate);
 
         LoginRequest loginRequest = new LoginRequest("admin", "admin123");
-        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+        MvcResult loginResult = performLogin(post("/api/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isOk())
@@ -179,7 +211,7 @@ public class UserControllerIntegrationTest {
         User savedUser = userRepository.save(userToDelete);
 
         LoginRequest loginRequest = new LoginRequest("admin", "admin123");
-        MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+        MvcResult loginResult = performLogin(post("/api/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isOk())
@@ -190,6 +222,261 @@ public class UserControllerIntegrationTest {
         mockMvc.perform(delete("/api/users/" + savedUser.getId())
                         .header("Authorization", "Bearer " + token))
                 .andExpect(status().isNoContent());
+
+        // The row is only tombstoned: it is hidden everywhere and can be deleted only once
+        mockMvc.perform(get("/api/users/" + savedUser.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/users/" + savedUser.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/users")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$[*].username", containsInAnyOrder("admin")));
+
+        // A tombstone does not keep its username and email taken
+        UserRequest again = new UserRequest("deleteuser", "delete@example.com", "StrongPass1!", "USER");
+        mockMvc.perform(post("/api/users")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(again)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(delete("/api/users/" + userRepository.findByUsername("deleteuser").orElseThrow().getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+        assertEquals(1, userService.purgeDeleted(Instant.now().plusSeconds(1), 100));
+    }
+
+    @Test
+    public void testCborContentNegotiation() throws Exception {
+        userRepository.save(new User("admin", "admin@example.com", passwordEncoder.encode("admin123"), "ADMIN"));
+        userRepository.save(new User("user", "user@example.com", passwordEncoder.encode("user123"), "USER"));
+        CBORMapper cborMapper = new CBORMapper();
+
+        MvcResult loginResult = performLogin(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(new LoginRequest("admin", "admin123"))))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        AuthResponse auth = cborMapper.readValue(loginResult.getResponse().getContentAsByteArray(), AuthResponse.class);
+        assertEquals("admin", auth.getUsername());
+
+        MvcResult listResult = mockMvc.perform(get("/api/users")
+                        .header("Authorization", "Bearer " + auth.getToken())
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        UserResponse[] users = cborMapper.readValue(listResult.getResponse().getContentAsByteArray(), UserResponse[].class);
+        assertEquals(2, users.length);
+
+        // Callers that do not ask for CBOR keep getting JSON
+        mockMvc.perform(get("/api/users")
+                        .header("Authorization", "Bearer " + auth.getToken()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[*].username", containsInAnyOrder("admin", "user")))
+                .andExpect(jsonPath("$[*].role", containsInAnyOrder("ADMIN", "USER")));
+    }
+
+    @Test
+    public void testPermissionsComeFromRoleTable() throws Exception {
+        roleRepository.save(new Role("AUDITOR", EnumSet.of(Permission.USER_LIST)));
+        rolePermissions.reload();
+        try {
+            userRepository.save(new User("auditor", "auditor@example.com", passwordEncoder.encode("auditor123"), "AUDITOR"));
+            User user = userRepository.save(new User("user", "user@example.com", passwordEncoder.encode("user123"), "USER"));
+
+            MvcResult loginResult = performLogin(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new LoginRequest("auditor", "auditor123"))))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            String token = objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+
+            mockMvc.perform(get("/api/users")
+                            .param("role", "USER")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].username").value("user"));
+
+            mockMvc.perform(delete("/api/users/" + user.getId())
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isForbidden())
+                    .andExpect(jsonPath("$.error").value("Forbidden"));
+
+            mockMvc.perform(get("/api/users/" + user.getId())
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isForbidden());
+        } finally {
+            roleRepository.deleteById("AUDITOR");
+            rolePermissions.reload();
+        }
+    }
+
+    @Test
+    public void testPatchUpdatesOnlyGivenFieldsWithVersionCheck() throws Exception {
+        userRepository.save(new User("admin", "admin@example.com", passwordEncoder.encode("admin123"), "ADMIN"));
+        User target = userRepository.save(new User("patchme", "patch@example.com", passwordEncoder.encode("patch123"), "USER"));
+        String passwordHash = userRepository.findByUsername("patchme").orElseThrow().getPassword();
+
+        MvcResult loginResult = performLogin(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("admin", "admin123"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+
+        mockMvc.perform(patch("/api/users/" + target.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"patched@example.com\",\"version\":0}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("patchme"))
+                .andExpect(jsonPath("$.email").value("patched@example.com"))
+                .andExpect(jsonPath("$.role").value("USER"))
+                .andExpect(jsonPath("$.version").value(1));
+        assertEquals(passwordHash, userRepository.findByUsername("patchme").orElseThrow().getPassword());
+
+        // Still holding version 0: someone else's change must not be overwritten
+        mockMvc.perform(patch("/api/users/" + target.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"role\":\"ADMIN\",\"version\":0}"))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(patch("/api/users/" + target.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"admin\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Username is already taken"));
+    }
+
+    @Test
+    public void testBulkUpdateInChunks() throws Exception {
+        userRepository.save(new User("admin", "admin@example.com", passwordEncoder.encode("admin123"), "ADMIN"));
+        Long[] ids = new Long[3];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = userRepository.save(new User("bulk" + i, "bulk" + i + "@old.example.com",
+                    passwordEncoder.encode("bulk123"), "USER")).getId();
+        }
+
+        MvcResult loginResult = performLogin(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("admin", "admin123"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+
+        BulkUserUpdateRequest request = new BulkUserUpdateRequest(List.of(ids), "ADMIN", "new.example.com");
+        mockMvc.perform(patch("/api/users/bulk")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.chunks.length()").value(2))
+                .andExpect(jsonPath("$.chunks[0].processed").value(2))
+                .andExpect(jsonPath("$.chunks[0].status").value("COMMITTED"))
+                .andExpect(jsonPath("$.chunks[1].processed").value(3))
+                .andExpect(jsonPath("$.chunks[1].changed").value(6))
+                .andExpect(jsonPath("$.chunks[1].error").doesNotExist())
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+
+        User updated = userRepository.findByUsername("bulk1").orElseThrow();
+        assertEquals("ADMIN", updated.getRole());
+        assertEquals("bulk1@new.example.com", updated.getEmail());
+
+        mockMvc.perform(patch("/api/users/bulk")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkUserUpdateRequest(List.of(ids), null, null))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testBulkEmailUpdateSkipsTombstonesAndReportsACollision() throws Exception {
+        userRepository.save(new User("admin", "admin@example.com", passwordEncoder.encode("admin123"), "ADMIN"));
+        Long[] ids = new Long[3];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = userRepository.save(new User("bulk" + i, "bulk" + i + "@old.example.com",
+                    passwordEncoder.encode("bulk123"), "USER")).getId();
+        }
+        // A deleted user still holds bulk0's new address; a live one holds bulk2's
+        Long deletedId = userRepository.save(new User("gone", "bulk0@new.example.com",
+                passwordEncoder.encode("gone123"), "USER")).getId();
+        userService.deleteUser(deletedId);
+        userRepository.save(new User("clash", "bulk2@new.example.com", passwordEncoder.encode("clash123"), "USER"));
+
+        MvcResult loginResult = performLogin(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("admin", "admin123"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+
+        BulkUserUpdateRequest request = new BulkUserUpdateRequest(List.of(ids), null, "new.example.com");
+        mockMvc.perform(patch("/api/users/bulk")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.chunks.length()").value(2))
+                .andExpect(jsonPath("$.chunks[0].status").value("COMMITTED"))
+                .andExpect(jsonPath("$.chunks[0].processed").value(2))
+                .andExpect(jsonPath("$.chunks[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.chunks[1].processed").value(2))
+                .andExpect(jsonPath("$.chunks[1].error").value("Email is already in use"))
+                .andExpect(jsonPath("$.status").value("ABORTED"));
+
+        assertEquals("bulk0@new.example.com", userRepository.findByUsername("bulk0").orElseThrow().getEmail());
+        assertEquals("bulk2@old.example.com", userRepository.findByUsername("bulk2").orElseThrow().getEmail());
+    }
+
+    @Test
+    public void testLoginActivityIsCountedAndFlushedInBatches() throws Exception {
+        userRepository.save(new User("admin", "admin@example.com", passwordEncoder.encode("admin123"), "ADMIN"));
+        Long id = userRepository.save(new User("active", "active@example.com",
+                passwordEncoder.encode("active123"), "USER")).getId();
+
+        for (int i = 0; i < 2; i++) {
+            performLogin(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new LoginRequest("active", "active123"))))
+                    .andExpect(status().isOk());
+        }
+        MvcResult loginResult = performLogin(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("admin", "admin123"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+
+        // Not flushed yet, but this replica already reports its own logins
+        mockMvc.perform(get("/api/users/" + id)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.loginCount").value(2))
+                .andExpect(jsonPath("$.lastLoginAt").exists());
+
+        loginActivityTracker.flush();
+        assertEquals(0, loginActivityTracker.getPendingCount());
+        User stored = userRepository.findById(id).orElseThrow();
+        assertEquals(2, stored.getLoginCount());
+        assertNotNull(stored.getLastLoginAt());
+        assertEquals(0, stored.getVersion());
+
+        mockMvc.perform(get("/api/users/" + id)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.loginCount").value(2));
     }
 
     @Test
@@ -202,4 +489,21 @@ public class UserControllerIntegrationTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.error").value("Validation Failed"));
     }
+
+    // Login completes asynchronously, so the response comes from the async dispatch
+    @Test
+    public void testCorsPreflightAllowsPatch() throws Exception {
+        for (String path : List.of("/api/users/1", "/api/users/bulk")) {
+            mockMvc.perform(options(path)
+                            .header("Origin", "http://localhost:3000")
+                            .header("Access-Control-Request-Method", "PATCH"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Access-Control-Allow-Methods", containsString("PATCH")));
+        }
+    }
+
+    private ResultActions performLogin(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult pending = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(pending));
+    }
 }
@@ -0,0 +1,146 @@
+package com.usermanagement.usermanagementbe.event;
+
+import com.usermanagement.usermanagementbe.dto.UserRequest;
+import com.usermanagement.usermanagementbe.entity.DeadLetterEvent;
+import com.usermanagement.usermanagementbe.repository.DeadLetterEventRepository;
+import com.usermanagement.usermanagementbe.repository.UserRepository;
+import com.usermanagement.usermanagementbe.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "events.dispatch.max-attempts=3",
+        "events.dispatch.retry-backoff-ms=5"
+})
+public class UserEventDispatcherTest {
+
+    @TestConfiguration
+    static class HandlerConfig {
+
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+
+        @Bean
+        FailingHandler failingHandler() {
+            return new FailingHandler();
+        }
+    }
+
+    static class RecordingHandler implements UserEventHandler {
+        final List<UserEvent> received = new CopyOnWriteArrayList<>();
+        final List<String> threads = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void handle(UserEvent event) {
+            received.add(event);
+            threads.add(Thread.currentThread().toString());
+        }
+    }
+
+    static class FailingHandler implements UserEventHandler {
+        @Override
+        public void handle(UserEvent event) {
+            if (event instanceof UserDeletedEvent) {
+                throw new IllegalStateException("webhook unavailable");
+            }
+        }
+    }
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DeadLetterEventRepository deadLetterEventRepository;
+
+    @Autowired
+    private RecordingHandler recordingHandler;
+
+    @Autowired
+    private UserEventDispatcher userEventDispatcher;
+
+    @BeforeEach
+    public void setup() {
+        userRepository.deleteAll();
+        deadLetterEventRepository.deleteAll();
+        recordingHandler.received.clear();
+        recordingHandler.threads.clear();
+    }
+
+    @Test
+    public void testLifecycleEventsDispatchedAfterCommitOnVirtualThreads() throws Exception {
+        Long id = userService.createUser(new UserRequest("evtuser", "evt@example.com", "StrongPass1!", "USER")).getId();
+        userService.updateUser(id, new UserRequest("evtuser", "evt@example.com", null, "ADMIN"));
+
+        awaitTrue(() -> recordingHandler.received.size() == 2);
+
+        UserCreatedEvent created = (UserCreatedEvent) recordingHandler.received.stream()
+                .filter(e -> e instanceof UserCreatedEvent).findFirst().orElseThrow();
+        assertEquals(id, created.getUserId());
+        assertEquals("evtuser", created.getUsername());
+
+        UserUpdatedEvent updated = (UserUpdatedEvent) recordingHandler.received.stream()
+                .filter(e -> e instanceof UserUpdatedEvent).findFirst().orElseThrow();
+        assertTrue(updated.isRoleChanged());
+        assertTrue(recordingHandler.threads.stream().allMatch(t -> t.startsWith("VirtualThread")));
+    }
+
+    @Test
+    public void testFailingHandlerIsRetriedThenDeadLettered() throws Exception {
+        Long id = userService.createUser(new UserRequest("dluser", "dl@example.com", "StrongPass1!", "USER")).getId();
+        userService.deleteUser(id);
+
+        awaitTrue(() -> !deadLetterEventRepository.findByUserId(id).isEmpty());
+
+        DeadLetterEvent deadLetter = deadLetterEventRepository.findByUserId(id).get(0);
+        assertEquals("UserDeletedEvent", deadLetter.getEventType());
+        assertEquals(3, deadLetter.getAttempts());
+        assertTrue(deadLetter.getLastError().contains("webhook unavailable"));
+        // The healthy handler still got the event
+        awaitTrue(() -> recordingHandler.received.stream().anyMatch(e -> e instanceof UserDeletedEvent));
+    }
+
+    @Test
+    public void testEventsOverTheQueueCapacityAreDeadLettered() {
+        int capacity = (int) ReflectionTestUtils.getField(userEventDispatcher, "queueCapacity");
+        ReflectionTestUtils.setField(userEventDispatcher, "queueCapacity", 0);
+        Long id;
+        try {
+            id = userService.createUser(new UserRequest("fulluser", "full@example.com", "StrongPass1!", "USER")).getId();
+        } finally {
+            ReflectionTestUtils.setField(userEventDispatcher, "queueCapacity", capacity);
+        }
+
+        // Written on the request thread after commit, so it must commit on its own
+        List<DeadLetterEvent> deadLetters = deadLetterEventRepository.findByUserId(id);
+        assertFalse(deadLetters.isEmpty());
+        assertTrue(deadLetters.stream().allMatch(d -> "Dispatch queue full".equals(d.getLastError())));
+        assertTrue(deadLetters.stream().anyMatch(d -> d.getHandler().equals(RecordingHandler.class.getName())));
+        assertTrue(recordingHandler.received.stream().noneMatch(e -> id.equals(e.getUserId())));
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Condition not met within 5s");
+            }
+            Thread.sleep(20);
+        }
+    }
+}
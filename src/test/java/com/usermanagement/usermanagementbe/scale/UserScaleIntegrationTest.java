@@ -0,0 +1,230 @@
+package com.usermanagement.usermanagementbe.scale;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.usermanagement.usermanagementbe.config.SyntheticUserGenerator;
+import com.usermanagement.usermanagementbe.dto.LoginRequest;
+import com.usermanagement.usermanagementbe.repository.UserRepository;
+import com.usermanagement.usermanagementbe.security.UserDetailsServiceImpl;
+import com.usermanagement.usermanagementbe.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Catches costs that grow with the size of the users table where they
+ * should not. The table is filled by {@link SyntheticUserGenerator}, the
+ * main paths are measured, the table is grown {@code scale.growth} times
+ * and they are measured again:
+ * <ul>
+ *   <li>lookup by username (hit and miss) and login must stay flat;</li>
+ *   <li>the full and the role-filtered listing must stay linear, in time
+ *   and in bytes allocated per row written.</li>
+ * </ul>
+ * Bounds are loose ratios so that they hold on a busy build machine and
+ * still fail on a lost index or a quadratic loop. Wall-clock ratios are
+ * still too noisy for every build, so the suite only runs when asked for:
+ * {@code mvn test -Dtest=UserScaleIntegrationTest -Dscale.users=5000}
+ * (seconds; use 100000 or more for a realistic run). Runs against its own
+ * in-memory database, dropped afterwards.
+ */
+@EnabledIfSystemProperty(named = "scale.users", matches = "[1-9][0-9]*")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:scaledb",
+        "app.synthetic.users=${scale.users}",
+        "app.synthetic.batch-size=1000"
+})
+@AutoConfigureMockMvc
+@DirtiesContext
+public class UserScaleIntegrationTest {
+
+    private static final String PASSWORD = "synthetic123";
+
+    private record Costs(long rows, double lookupMs, double missMs, double loginMs,
+                         double listNanosPerRow, double listBytesPerRow, double roleNanosPerRow) {
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SyntheticUserGenerator generator;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.synthetic.users}")
+    private int initialUsers;
+
+    @Value("${scale.growth:10}")
+    private int growth;
+
+    private final SplittableRandom random = new SplittableRandom(7);
+
+    @Test
+    public void testCostsStayFlatOrLinearAsTheTableGrows() throws Exception {
+        String token = login("admin", "admin123");
+
+        // Twice at the small size: the first pass is JIT warm-up
+        measure(initialUsers, token);
+        Costs small = measure(initialUsers, token);
+
+        long total = (long) initialUsers * growth;
+        generator.generate(TenantContext.DEFAULT_TENANT, initialUsers, (int) (total - initialUsers));
+        Costs large = measure(total, token);
+
+        String report = "\nsmall: " + small + "\nlarge: " + large;
+        assertTrue(large.rows() >= small.rows() * (growth - 1), report);
+
+        // Index lookups: a table scan at this growth shows up as far more than 3x
+        assertTrue(large.lookupMs() <= small.lookupMs() * 3 + 1, "lookup by username grew" + report);
+        assertTrue(large.missMs() <= small.missMs() * 3 + 1, "lookup of an unknown username grew" + report);
+        // Login is dominated by BCrypt, which does not depend on the table
+        assertTrue(large.loginMs() <= small.loginMs() * 1.5 + 20, "login grew" + report);
+
+        // Listings are linear: the cost per row may not rise with the row count
+        assertTrue(large.listNanosPerRow() <= small.listNanosPerRow() * 2, "listing per row grew" + report);
+        assertTrue(large.roleNanosPerRow() <= small.roleNanosPerRow() * 2, "role listing per row grew" + report);
+        // Rows are streamed to the response, not collected first
+        assertTrue(large.listBytesPerRow() <= small.listBytesPerRow() * 1.5 + 64, "listing allocation grew" + report);
+        assertTrue(large.listBytesPerRow() < 4096, "listing allocates too much per row" + report);
+    }
+
+    @Test
+    public void testGeneratedUsersFollowTheConfiguredDistributions() throws Exception {
+        long synthetic = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE username NOT IN ('admin', 'user')", Long.class);
+        assertTrue(synthetic >= initialUsers);
+        long distinctIds = jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT id) FROM users", Long.class);
+        assertEquals(synthetic + 2, distinctIds);
+
+        assertShare("role = 'ADMIN'", 0.01, synthetic);
+        assertShare("deleted_at IS NOT NULL", 0.01, synthetic);
+        assertShare("last_login_at IS NULL", 0.2, synthetic);
+        assertShare("email LIKE '%@gmail.com'", 0.35, synthetic);
+        assertShare("email LIKE '%@company%.example'", 0.25, synthetic);
+
+        // Tombstones are invisible; everyone else can log in with the shared password
+        long ordinal = 0;
+        while (!generator.isDeleted(ordinal)) {
+            ordinal++;
+        }
+        assertTrue(userRepository.findByUsername(generator.usernameFor(ordinal)).isEmpty());
+        long live = ordinal + 1;
+        while (generator.isDeleted(live)) {
+            live++;
+        }
+        login(generator.usernameFor(live), PASSWORD);
+
+        // Users created afterwards draw ids from the same sequence without colliding
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"after-seeding\",\"email\":\"after@example.com\","
+                                + "\"password\":\"StrongPass1!\",\"role\":\"USER\"}"))
+                .andExpect(status().isCreated());
+    }
+
+    private void assertShare(String condition, double expected, long total) {
+        long matching = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE username NOT IN "
+                + "('admin', 'user', 'after-seeding') AND " + condition, Long.class);
+        double share = (double) matching / total;
+        assertEquals(expected, share, Math.max(0.01, expected * 0.25), condition);
+    }
+
+    private Costs measure(long syntheticUsers, String token) throws Exception {
+        double lookupMs = median(200, () -> {
+            long ordinal = liveOrdinal(syntheticUsers);
+            userDetailsService.loadUserByUsername(generator.usernameFor(ordinal));
+        });
+        double missMs = median(200, () -> userRepository.existsByUsername("missing" + random.nextLong()));
+        double loginMs = median(5, () -> login(generator.usernameFor(liveOrdinal(syntheticUsers)), PASSWORD));
+
+        long rows = countRows(get("/api/users"), token);
+        long[] allocated = new long[1];
+        double listMs = median(3, () -> {
+            long before = allocatedBytes();
+            mockMvc.perform(get("/api/users").header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk());
+            allocated[0] = allocatedBytes() - before;
+        });
+
+        long admins = countRows(get("/api/users").param("role", "ADMIN"), token);
+        double roleMs = median(3, () -> mockMvc.perform(get("/api/users").param("role", "ADMIN")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk()));
+
+        return new Costs(rows, lookupMs, missMs, loginMs,
+                listMs * 1_000_000 / rows, (double) allocated[0] / rows, roleMs * 1_000_000 / admins);
+    }
+
+    private long countRows(MockHttpServletRequestBuilder request, String token) throws Exception {
+        MvcResult result = mockMvc.perform(request.header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray()).size();
+    }
+
+    private long liveOrdinal(long syntheticUsers) {
+        long ordinal = random.nextLong(syntheticUsers);
+        while (generator.isDeleted(ordinal)) {
+            ordinal = random.nextLong(syntheticUsers);
+        }
+        return ordinal;
+    }
+
+    private String login(String username, String password) throws Exception {
+        MvcResult pending = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(username, password))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    private interface Step {
+        void run() throws Exception;
+    }
+
+    private static double median(int runs, Step step) throws Exception {
+        double[] millis = new double[runs];
+        for (int i = 0; i < runs; i++) {
+            long started = System.nanoTime();
+            step.run();
+            millis[i] = (System.nanoTime() - started) / 1_000_000.0;
+        }
+        Arrays.sort(millis);
+        return millis[runs / 2];
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,112 @@
+package com.usermanagement.usermanagementbe.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.usermanagement.usermanagementbe.dto.LoginRequest;
+import com.usermanagement.usermanagementbe.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ConcurrencyLimitFilterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ConcurrencyLimitFilter concurrencyLimitFilter;
+
+    @Autowired
+    private LoginAttemptGuard loginAttemptGuard;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    public void testReadsOverTheLimitAreShedWithoutTouchingOtherBudgets() throws Exception {
+        ConcurrencyLimit read = concurrencyLimitFilter.getLimit("read");
+        int held = 0;
+        while (read.tryAcquire()) {
+            held++;
+        }
+        try {
+            mockMvc.perform(get("/api/users/1"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.status").value(503));
+
+            // Probes are never shed, and logins have their own budget
+            mockMvc.perform(get("/health/live"))
+                    .andExpect(status().isOk());
+
+            loginAttemptGuard.reset(TenantContext.DEFAULT_TENANT, "nobody");
+            MvcResult pending = mockMvc.perform(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new LoginRequest("nobody", "wrong"))))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(pending))
+                    .andExpect(status().isUnauthorized());
+        } finally {
+            for (int i = 0; i < held; i++) {
+                read.release(0, false, false);
+            }
+        }
+        assertEquals(0, concurrencyLimitFilter.getLimit("login").getInFlight());
+
+        ObjectName name = new ObjectName("com.usermanagement.usermanagementbe:type=ConcurrencyLimit,name=read");
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+
+    @Test
+    public void testLimitGrowsWhileFastAndShrinksWhenLatencyRises() {
+        ConcurrencyLimit limit = new ConcurrencyLimit("test", 10, 2, 100, 2.0, 0.9, 0.2);
+        long fast = TimeUnit.MILLISECONDS.toNanos(1);
+        long slow = TimeUnit.MILLISECONDS.toNanos(50);
+
+        for (int round = 0; round < 20; round++) {
+            saturate(limit, fast);
+        }
+        int grown = limit.getLimit();
+        assertTrue(grown > 10, "limit should grow at steady latency, was " + grown);
+
+        for (int round = 0; round < 5; round++) {
+            saturate(limit, slow);
+        }
+        int shrunk = limit.getLimit();
+        assertTrue(shrunk < grown, "limit should shrink once latency rises, was " + shrunk);
+
+        assertTrue(limit.tryAcquire());
+        limit.release(fast, true, true);
+        assertTrue(limit.getLimit() < shrunk);
+
+        while (limit.tryAcquire()) {
+            // Fill every slot
+        }
+        assertTrue(limit.getRejectedCount() > 0);
+        assertEquals(limit.getLimit(), limit.getInFlight());
+    }
+
+    private static void saturate(ConcurrencyLimit limit, long latencyNanos) {
+        int acquired = 0;
+        while (limit.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limit.release(latencyNanos, true, false);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.usermanagement.usermanagementbe.security;
+
+import com.usermanagement.usermanagementbe.exception.ServiceBusyException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginExecutorTest {
+
+    @Test
+    public void testSaturatedPoolRejectsAndSlowLoginsTimeOut() throws Exception {
+        LoginExecutor executor = new LoginExecutor(1, 1, 200);
+        CountDownLatch hashing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean queuedRan = new AtomicBoolean();
+        try {
+            CompletableFuture<String> running = executor.submit(() -> {
+                hashing.countDown();
+                await(release);
+                return "done";
+            });
+            assertTrue(hashing.await(5, TimeUnit.SECONDS));
+
+            CompletableFuture<String> queued = executor.submit(() -> {
+                queuedRan.set(true);
+                return "queued";
+            });
+            CompletableFuture<String> overflow = executor.submit(() -> "overflow");
+
+            // The queue holds one login, so the third is refused without waiting
+            assertTrue(overflow.isCompletedExceptionally());
+            assertEquals(1, executor.getRejectedCount());
+
+            ExecutionException timedOut = assertThrows(ExecutionException.class,
+                    () -> queued.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ServiceBusyException.class, timedOut.getCause());
+            assertInstanceOf(ServiceBusyException.class,
+                    assertThrows(ExecutionException.class, () -> running.get(5, TimeUnit.SECONDS)).getCause());
+
+            release.countDown();
+            // The queued login gave up before it reached a thread, so it is never hashed
+            assertEquals("later", executor.submit(() -> "later").get(5, TimeUnit.SECONDS));
+            assertFalse(queuedRan.get());
+            assertEquals(2, executor.getTimedOutCount());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
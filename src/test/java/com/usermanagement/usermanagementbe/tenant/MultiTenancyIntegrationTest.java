@@ -0,0 +1,130 @@
+package com.usermanagement.usermanagementbe.tenant;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.usermanagement.usermanagementbe.dto.LoginRequest;
+import com.usermanagement.usermanagementbe.dto.UserRequest;
+import com.usermanagement.usermanagementbe.entity.User;
+import com.usermanagement.usermanagementbe.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class MultiTenancyIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long globexUserId;
+
+    @BeforeEach
+    public void setup() {
+        for (String tenant : new String[]{"acme", "globex"}) {
+            TenantContext.setTenantId(tenant);
+            userRepository.deleteAll();
+            userRepository.save(new User("admin", "admin@" + tenant + ".com", passwordEncoder.encode("admin123"), "ADMIN"));
+            User user = userRepository.save(new User("user", "user@" + tenant + ".com", passwordEncoder.encode("user123"), "USER"));
+            if (tenant.equals("globex")) {
+                globexUserId = user.getId();
+            }
+        }
+        TenantContext.clear();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        TenantContext.clear();
+    }
+
+    @Test
+    public void testSameUsernameCanRegisterInDifferentTenants() throws Exception {
+        UserRequest userRequest = new UserRequest("alice", "alice@example.com", "StrongPass1!", "USER");
+
+        for (String tenant : new String[]{"acme", "globex"}) {
+            mockMvc.perform(post("/api/auth/register")
+                            .header("X-Tenant-ID", tenant)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(userRequest)))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(post("/api/auth/register")
+                        .header("X-Tenant-ID", "acme")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Username is already taken"));
+    }
+
+    @Test
+    public void testQueriesAreScopedToTheTokenTenant() throws Exception {
+        String token = login("acme", "admin", "admin123");
+
+        mockMvc.perform(get("/api/users")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].email").value("admin@acme.com"));
+
+        mockMvc.perform(get("/api/users/" + globexUserId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+
+        // A tenant header cannot override the tenant baked into the token
+        mockMvc.perform(get("/api/users/" + globexUserId)
+                        .header("Authorization", "Bearer " + token)
+                        .header("X-Tenant-ID", "globex"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(delete("/api/users/" + globexUserId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testInvalidTenantHeaderIsRejected() throws Exception {
+        mockMvc.perform(post("/api/auth/login")
+                        .header("X-Tenant-ID", "acme; DROP SCHEMA public")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("admin", "admin123"))))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String login(String tenant, String username, String password) throws Exception {
+        MvcResult loginResult = performLogin(post("/api/auth/login")
+                        .header("X-Tenant-ID", tenant)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(username, password))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    // Login completes asynchronously, so the response comes from the async dispatch
+    private ResultActions performLogin(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult pending = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(pending));
+    }
+}